@@ -0,0 +1,7 @@
+package daripher.skilltree.api;
+
+import daripher.skilltree.item.CuriosIndex;
+
+public interface CuriosIndexContainer {
+	CuriosIndex getCuriosIndex();
+}
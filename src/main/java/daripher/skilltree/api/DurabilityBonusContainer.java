@@ -0,0 +1,7 @@
+package daripher.skilltree.api;
+
+public interface DurabilityBonusContainer {
+	double getDurabilityBonus();
+
+	void resetDurabilityBonus();
+}
@@ -0,0 +1,7 @@
+package daripher.skilltree.api;
+
+import daripher.skilltree.attribute.DynamicBonusState;
+
+public interface DynamicBonusContainer {
+	DynamicBonusState getDynamicBonusState();
+}
@@ -0,0 +1,7 @@
+package daripher.skilltree.api;
+
+import daripher.skilltree.item.EnchantmentSummary;
+
+public interface EnchantmentSummaryContainer {
+	EnchantmentSummary getEnchantmentSummary();
+}
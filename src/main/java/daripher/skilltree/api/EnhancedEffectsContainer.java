@@ -0,0 +1,12 @@
+package daripher.skilltree.api;
+
+import javax.annotation.Nullable;
+
+import daripher.skilltree.potion.EnhancedEffects;
+
+public interface EnhancedEffectsContainer {
+	@Nullable
+	EnhancedEffects getEnhancedEffects();
+
+	void setEnhancedEffects(@Nullable EnhancedEffects effects);
+}
@@ -0,0 +1,7 @@
+package daripher.skilltree.api;
+
+import daripher.skilltree.item.EquipmentProfile;
+
+public interface EquipmentProfileContainer {
+	EquipmentProfile getEquipmentProfile();
+}
@@ -0,0 +1,7 @@
+package daripher.skilltree.api;
+
+public interface ItemCategoriesContainer {
+	int getItemCategories();
+
+	void setItemCategories(int categories);
+}
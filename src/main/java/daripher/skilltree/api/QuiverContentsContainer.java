@@ -0,0 +1,7 @@
+package daripher.skilltree.api;
+
+import daripher.skilltree.item.quiver.QuiverContents;
+
+public interface QuiverContentsContainer {
+	QuiverContents getQuiverContents();
+}
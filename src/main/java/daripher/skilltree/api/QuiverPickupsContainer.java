@@ -0,0 +1,7 @@
+package daripher.skilltree.api;
+
+import daripher.skilltree.item.quiver.QuiverPickups;
+
+public interface QuiverPickupsContainer {
+	QuiverPickups getQuiverPickups();
+}
@@ -0,0 +1,7 @@
+package daripher.skilltree.api;
+
+import daripher.skilltree.item.gem.SocketData;
+
+public interface SocketDataContainer {
+	SocketData getSocketData();
+}
@@ -0,0 +1,14 @@
+package daripher.skilltree.api;
+
+import daripher.skilltree.attribute.IndexedAttribute;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+
+public interface TrackedAttributeMap {
+	/**
+	 * @return number of times the attribute was modified, only compared to older counts of the same
+	 *         attribute
+	 */
+	int getModificationCount(Attribute attribute);
+
+	double getIndexedValue(IndexedAttribute attribute);
+}
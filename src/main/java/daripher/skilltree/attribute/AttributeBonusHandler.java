@@ -1,6 +1,5 @@
 package daripher.skilltree.attribute;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -9,7 +8,6 @@ import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
@@ -23,24 +21,32 @@ import org.slf4j.Logger;
 
 import com.google.common.collect.Multimap;
 import com.google.common.collect.TreeMultimap;
-import com.google.common.util.concurrent.AtomicDouble;
 import com.mojang.logging.LogUtils;
 
 import daripher.skilltree.SkillTreeMod;
+import daripher.skilltree.api.CuriosIndexContainer;
+import daripher.skilltree.api.DynamicBonusContainer;
 import daripher.skilltree.api.EquipmentContainer;
+import daripher.skilltree.api.EquipmentProfileContainer;
 import daripher.skilltree.api.HasAdditionalSockets;
+import daripher.skilltree.api.TrackedAttributeMap;
+import daripher.skilltree.capability.arrows.StuckArrowsProvider;
+import daripher.skilltree.combat.CombatContext;
 import daripher.skilltree.config.Config;
 import daripher.skilltree.init.PSTAttributes;
 import daripher.skilltree.init.PSTEffects;
+import daripher.skilltree.item.CuriosIndex;
 import daripher.skilltree.item.ItemHelper;
-import daripher.skilltree.item.gem.GemHelper;
 import daripher.skilltree.item.quiver.QuiverItem;
+import daripher.skilltree.mixin.accessor.ItemAccessor;
+import daripher.skilltree.mixin.accessor.LivingEntityAccessor;
 import daripher.skilltree.util.FoodHelper;
 import daripher.skilltree.util.PlayerHelper;
 import daripher.skilltree.util.TooltipHelper;
 import net.minecraft.ChatFormatting;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.contents.LiteralContents;
@@ -48,10 +54,9 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.effect.MobEffectInstance;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EquipmentSlot;
-import net.minecraft.world.entity.EquipmentSlot.Type;
 import net.minecraft.world.entity.ExperienceOrb;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.attributes.Attribute;
@@ -62,29 +67,25 @@ import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.projectile.AbstractArrow;
-import net.minecraft.world.entity.projectile.Projectile;
-import net.minecraft.world.entity.projectile.ThrownTrident;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.ItemStack.TooltipPart;
 import net.minecraft.world.item.TooltipFlag;
-import net.minecraft.world.level.Explosion.BlockInteraction;
 import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.Tags;
 import net.minecraftforge.event.AnvilUpdateEvent;
 import net.minecraftforge.event.GrindstoneEvent;
 import net.minecraftforge.event.ItemAttributeModifierEvent;
-import net.minecraftforge.event.TickEvent.Phase;
-import net.minecraftforge.event.TickEvent.PlayerTickEvent;
 import net.minecraftforge.event.entity.living.LivingAttackEvent;
 import net.minecraftforge.event.entity.living.LivingChangeTargetEvent;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
 import net.minecraftforge.event.entity.living.LivingDropsEvent;
 import net.minecraftforge.event.entity.living.LivingEntityUseItemEvent;
+import net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent;
 import net.minecraftforge.event.entity.living.LivingExperienceDropEvent;
 import net.minecraftforge.event.entity.living.LivingHealEvent;
-import net.minecraftforge.event.entity.living.LivingHurtEvent;
+import net.minecraftforge.event.entity.living.MobEffectEvent;
 import net.minecraftforge.event.entity.living.ShieldBlockEvent;
 import net.minecraftforge.event.entity.player.CriticalHitEvent;
 import net.minecraftforge.event.entity.player.ItemFishedEvent;
@@ -98,40 +99,117 @@ import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
-import net.minecraftforge.fml.util.ObfuscationReflectionHelper;
 import net.minecraftforge.registries.ForgeRegistries;
-import top.theillusivec4.curios.api.CuriosApi;
-import top.theillusivec4.curios.api.SlotResult;
 import top.theillusivec4.curios.api.event.CurioAttributeModifierEvent;
+import top.theillusivec4.curios.api.event.CurioChangeEvent;
 
 @EventBusSubscriber(modid = SkillTreeMod.MOD_ID)
 public class AttributeBonusHandler {
 	private static final Logger LOGGER = LogUtils.getLogger();
-
-	@SubscribeEvent
-	public static void applyDamageBonus(LivingHurtEvent event) {
-		if (!(event.getSource().getDirectEntity() instanceof ServerPlayer player)) return;
-		float damage = event.getAmount();
-		float multiplier = PlayerHelper.getDamageMultiplier(player, event.getEntity(), true);
-		event.setAmount(damage * multiplier);
-	}
-
-	@SubscribeEvent
-	public static void applyProjectileDamageBonus(LivingHurtEvent event) {
-		if (!(event.getSource().getEntity() instanceof ServerPlayer player)) return;
-		if (!(event.getSource().getDirectEntity() instanceof Projectile projectile)) return;
-		float damage = event.getAmount();
-		float multiplier = PlayerHelper.getProjectileDamageMultiplier(player, event.getEntity(), projectile, event.getSource());
-		event.setAmount(damage * multiplier);
-	}
+	public static final int LIFE_REGENERATION_INTERVAL = 20;
+	public static final int EXPERIENCE_BONUS_INTERVAL = 20;
+	private static final List<DynamicAttributeBonus> DYNAMIC_BONUSES = List.of(
+			new DynamicAttributeBonus(() -> Attributes.MAX_HEALTH, Operation.ADDITION, "d1f7e78b-3368-409c-aa89-90f0f89a5524",
+					List.of(PSTAttributes.MAXIMUM_LIFE_PER_EVASION, PSTAttributes.EVASION), AttributeBonusHandler::getMaximumLifePerEvasion),
+			new DynamicAttributeBonus(() -> Attributes.MAX_HEALTH, Operation.ADDITION, "b68181bd-fbc4-4a63-95d4-df386fe3f71f",
+					PSTAttributes.MAXIMUM_LIFE_PER_GEM_IN_ARMOR, AttributeBonusHandler::getMaximumLifePerGemInArmor, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(() -> Attributes.ARMOR, Operation.ADDITION, "7cb71ee5-8715-40ae-a877-72ec3b49b33e",
+					List.of(PSTAttributes.ARMOR_PER_EVASION, PSTAttributes.EVASION), AttributeBonusHandler::getArmorPerEvasion),
+			new DynamicAttributeBonus(() -> Attributes.ARMOR, Operation.ADDITION, "66eae15c-53eb-4a4a-b511-2ab94f81324b",
+					PSTAttributes.ARMOR_PER_GEM_IN_CHESTPLATE, AttributeBonusHandler::getArmorPerGemInChestplate, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(() -> Attributes.ARMOR, Operation.ADDITION, "1080308c-bdd4-4693-876c-a36390b66b73",
+					PSTAttributes.ARMOR_PER_GEM_IN_HELMET, AttributeBonusHandler::getArmorPerGemInHelmet, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(() -> Attributes.ATTACK_DAMAGE, Operation.ADDITION, "d1079882-dd8c-42b7-9a43-3928553193c8",
+					List.of(PSTAttributes.ATTACK_DAMAGE_PER_ARMOR, () -> Attributes.ARMOR), AttributeBonusHandler::getDamagePerArmor),
+			new DynamicAttributeBonus(() -> Attributes.MAX_HEALTH, Operation.ADDITION, "9199d7cf-c7e4-4123-b636-6f6591e1137d",
+					List.of(PSTAttributes.MAXIMUM_LIFE_PER_ARMOR, () -> Attributes.ARMOR), AttributeBonusHandler::getMaximumLifePerArmor),
+			new DynamicAttributeBonus(() -> Attributes.MAX_HEALTH, Operation.ADDITION, "8810227f-9798-4890-8400-91c0941a3fc0",
+					PSTAttributes.MAXIMUM_LIFE_PER_BOOTS_ARMOR, AttributeBonusHandler::getMaximumLifePerBootsArmor, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(() -> Attributes.MAX_HEALTH, Operation.ADDITION, "98a17cd0-68c8-4808-8981-1796c33295e7",
+					PSTAttributes.MAXIMUM_LIFE_PER_SATISFIED_HUNGER, AttributeBonusHandler::getMaximumLifePerSatisfiedHunger, BonusTrigger.FOOD),
+			new DynamicAttributeBonus(PSTAttributes.EVASION, Operation.MULTIPLY_BASE, "4aa87d74-b729-4e1d-9c76-893495050416",
+					PSTAttributes.EVASION_UNDER_POTION_EFFECT, AttributeBonusHandler::getEvasionUnderPotionEffect, BonusTrigger.EFFECTS),
+			new DynamicAttributeBonus(() -> Attributes.ATTACK_SPEED, Operation.MULTIPLY_TOTAL, "a4daf7f8-29e3-404d-8277-9215a16ef4c8",
+					PSTAttributes.ATTACK_SPEED_UNDER_POTION_EFFECT, AttributeBonusHandler::getAttackSpeedUnderPotionEffect, BonusTrigger.EFFECTS),
+			new DynamicAttributeBonus(() -> Attributes.MAX_HEALTH, Operation.ADDITION, "de712f9d-9f47-475c-8b86-188bca70d1df",
+					PSTAttributes.MAXIMUM_LIFE_UNDER_POTION_EFFECT, AttributeBonusHandler::getMaximumLifeUnderPotionEffect, BonusTrigger.EFFECTS),
+			new DynamicAttributeBonus(PSTAttributes.EVASION, Operation.MULTIPLY_BASE, "282c4f81-7b6d-48e0-82c9-c4ebd58265cb",
+					PSTAttributes.EVASION_PER_POTION_EFFECT, AttributeBonusHandler::getEvasionPerPotionEffect, BonusTrigger.EFFECTS),
+			new DynamicAttributeBonus(() -> Attributes.MAX_HEALTH, Operation.ADDITION, "16c35c5c-56da-4d21-ad56-bd6618fee711",
+					PSTAttributes.MAXIMUM_LIFE_WITH_ENCHANTED_ITEM, AttributeBonusHandler::getMaximumLifeWithEnchantedItem, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(() -> Attributes.ARMOR, Operation.ADDITION, "8b836bea-4c28-4430-8184-7330530239f6",
+					PSTAttributes.ARMOR_WITH_ENCHANTED_SHIELD, AttributeBonusHandler::getArmorWithEnchantedShield, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(() -> Attributes.MAX_HEALTH, Operation.ADDITION, "27b4644b-96a0-4443-89e5-1700af61d602",
+					PSTAttributes.MAXIMUM_LIFE_PER_ENCHANTMENT, AttributeBonusHandler::getMaximumLifePerEnchantment, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(() -> Attributes.ARMOR, Operation.ADDITION, "55c3cb58-c09e-465a-a812-6a18ae587ec0",
+					PSTAttributes.ARMOR_PER_CHESTPLATE_ENCHANTMENT, AttributeBonusHandler::getArmorPerChestplateEnchantment, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(() -> Attributes.MAX_HEALTH, Operation.ADDITION, "9b1e9aac-fa58-4343-ba88-7541eca2836f",
+					PSTAttributes.MAXIMUM_LIFE_PER_ARMOR_ENCHANTMENT, AttributeBonusHandler::getMaximumLifePerArmorEnchantment, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(() -> Attributes.ATTACK_SPEED, Operation.MULTIPLY_TOTAL, "5e2d6a95-bc70-4f3d-a348-307b49f5bc84",
+					PSTAttributes.ATTACK_SPEED_WITH_GEM_IN_WEAPON, AttributeBonusHandler::getAttackSpeedWithGemInWeapon, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(PSTAttributes.BLOCK_CHANCE, Operation.MULTIPLY_BASE, "bfbc3d6b-7c37-498b-888c-3b05c921f24a",
+					PSTAttributes.BLOCK_CHANCE_WITH_ENCHANTED_SHIELD, AttributeBonusHandler::getBlockChanceWithEnchantedShield, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(PSTAttributes.EVASION, Operation.MULTIPLY_BASE, "d2865c2c-d5cc-4de9-a793-752349d27da0",
+					PSTAttributes.EVASION_CHANCE_WHEN_WOUNDED, AttributeBonusHandler::getEvasionChanceWhenWounded, BonusTrigger.HEALTH),
+			new DynamicAttributeBonus(() -> Attributes.ATTACK_SPEED, Operation.MULTIPLY_BASE, "f6dbc327-88c0-4704-b230-91fe1642dc7a",
+					PSTAttributes.ATTACK_SPEED_IF_NOT_HUNGRY, AttributeBonusHandler::getAttackSpeedIfNotHungry, BonusTrigger.FOOD),
+			new DynamicAttributeBonus(() -> Attributes.ATTACK_SPEED, Operation.MULTIPLY_BASE, "5d449ea8-12dd-4596-a6e1-e4837946acb6",
+					PSTAttributes.ATTACK_SPEED_WITH_RANGED_WEAPON, AttributeBonusHandler::getAttackSpeedWithRangedWeapon, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(() -> Attributes.ATTACK_SPEED, Operation.MULTIPLY_BASE, "e37a2257-8511-4ffb-a5dd-913b591dd520",
+					PSTAttributes.ATTACK_SPEED_PER_GEM_IN_WEAPON, AttributeBonusHandler::getAttackSpeedPerGemInWeapon, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(PSTAttributes.CRIT_CHANCE, Operation.MULTIPLY_BASE, "44984187-74c8-4927-be18-1e187ca9babe",
+					PSTAttributes.CRIT_CHANCE_IF_NOT_HUNGRY, AttributeBonusHandler::getCritChanceIfNotHungry, BonusTrigger.FOOD),
+			new DynamicAttributeBonus(() -> Attributes.ATTACK_SPEED, Operation.MULTIPLY_BASE, "7bd1d9fb-4a20-41f3-89df-7cb42e849c5f",
+					PSTAttributes.ATTACK_SPEED_WITH_ENCHANTED_WEAPON, AttributeBonusHandler::getAttackWithEnchantedWeapon, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(PSTAttributes.LIFE_PER_HIT, Operation.ADDITION, "9c36d4dc-06e3-4f42-b8e6-abb0fb6b344c",
+					PSTAttributes.LIFE_PER_HIT_UNDER_POTION_EFFECT, AttributeBonusHandler::getLifePerHitUnderPotionEffect, BonusTrigger.EFFECTS),
+			new DynamicAttributeBonus(() -> Attributes.MAX_HEALTH, Operation.ADDITION, "77353761-61e2-4f3c-b0e4-2abef4b75d76",
+					PSTAttributes.MAXIMUM_LIFE_PER_GEM_IN_HELMET, AttributeBonusHandler::getMaximumLifePerGemInHelmet, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(PSTAttributes.CRIT_CHANCE, Operation.MULTIPLY_BASE, "636b118d-478b-4c4e-9785-b6e7da876828",
+					PSTAttributes.CRIT_CHANCE_PER_GEM_IN_WEAPON, AttributeBonusHandler::getCritChancePerGemInWeapon, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(PSTAttributes.CRIT_DAMAGE, Operation.MULTIPLY_BASE, "3051c828-7281-458c-b6fc-df9d93b31d30",
+					PSTAttributes.CRIT_DAMAGE_PER_GEM_IN_WEAPON, AttributeBonusHandler::getCritDamagePerGemInWeapon, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(PSTAttributes.LIFE_REGENERATION, Operation.ADDITION, "6732aed2-1948-4e86-a83c-aad617cd4387",
+					PSTAttributes.LIFE_REGENERATION_PER_GEM_IN_HELMET, AttributeBonusHandler::getLifeRegenerationPerGemInHelmet, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(() -> Attributes.ATTACK_SPEED, Operation.MULTIPLY_BASE, "b983bec3-a049-49d7-855e-3025b283c7d2",
+					PSTAttributes.ATTACK_SPEED_WITH_SHIELD, AttributeBonusHandler::getAttackSpeedWithShield, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(PSTAttributes.LIFE_REGENERATION, Operation.ADDITION, "d86d8efb-4539-46f3-b157-672b2e1241d6",
+					PSTAttributes.LIFE_REGENERATION_WITH_SHIELD, AttributeBonusHandler::getLifeRegenerationWithShield, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(() -> Attributes.ARMOR, Operation.ADDITION, "f11460ca-56f9-4cff-98ea-791ed27f6639",
+					PSTAttributes.CHESTPLATE_ARMOR, AttributeBonusHandler::getBonusChestplateArmor, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(PSTAttributes.LIFE_ON_BLOCK, Operation.ADDITION, "6dccce60-76e9-4ca0-8497-8352ba26620d",
+					PSTAttributes.LIFE_ON_BLOCK_PER_SHIELD_ENCHANTMENT, AttributeBonusHandler::getLifeOnBlockPerShieldEnchantment, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(PSTAttributes.BLOCK_CHANCE, Operation.MULTIPLY_BASE, "7ea18323-13e4-43ee-bb30-decfdc1b1299",
+					PSTAttributes.BLOCK_CHANCE_PER_SHIELD_ENCHANTMENT, AttributeBonusHandler::getBlockChancePerShieldEnchantment, BonusTrigger.EQUIPMENT),
+			new DynamicAttributeBonus(PSTAttributes.BLOCK_CHANCE, Operation.MULTIPLY_BASE, "629ecea2-51b4-415a-80ff-4137a0f0dce1",
+					PSTAttributes.BLOCK_CHANCE_IF_NOT_HUNGRY, AttributeBonusHandler::getBlockChanceIfNotHungry, BonusTrigger.FOOD),
+			new DynamicAttributeBonus(PSTAttributes.BLOCK_CHANCE, Operation.MULTIPLY_BASE, "fb0934db-cdbb-4fa6-bf4f-d3c0c12f50be",
+					PSTAttributes.BLOCK_CHANCE_PER_SATISFIED_HUNGER, AttributeBonusHandler::getBlockChancePerSatisfiedHunger, BonusTrigger.FOOD),
+			new DynamicAttributeBonus(PSTAttributes.LIFE_ON_BLOCK, Operation.ADDITION, "793d56a0-7d0c-4bec-a328-65d6d681ec44",
+					PSTAttributes.LIFE_ON_BLOCK_IF_NOT_HUNGRY, AttributeBonusHandler::getLifeOnBlockIfNotHungry, BonusTrigger.FOOD),
+			new DynamicAttributeBonus(() -> Attributes.MAX_HEALTH, Operation.ADDITION, "e529b2e9-2170-430c-b77d-cfe829f66c69",
+					PSTAttributes.MAXIMUM_LIFE_IF_NOT_HUNGRY, AttributeBonusHandler::getMaximumLifeIfNotHungry, BonusTrigger.FOOD),
+			new DynamicAttributeBonus(() -> Attributes.MAX_HEALTH, Operation.ADDITION, "c5fae151-36ee-4f93-a917-500b524587ec",
+					PSTAttributes.MAXIMUM_LIFE_PER_EQUIPPED_JEWELRY, AttributeBonusHandler::getMaximumLifePerEquippedJewelry, BonusTrigger.CURIOS),
+			new DynamicAttributeBonus(() -> Attributes.ATTACK_DAMAGE, Operation.MULTIPLY_BASE, "7a6b2991-006d-4858-8369-185169fc72a4",
+					PSTAttributes.ATTACK_SPEED_IF_WOUNDED, AttributeBonusHandler::getAttackSpeedIfWounded, BonusTrigger.HEALTH),
+			new DynamicAttributeBonus(PSTAttributes.CRIT_CHANCE, Operation.MULTIPLY_BASE, "f752700c-d928-40c2-8f53-870e89669fc4",
+					PSTAttributes.CRIT_CHANCE_IF_WOUNDED, AttributeBonusHandler::getCritChanceIfWounded, BonusTrigger.HEALTH),
+			new DynamicAttributeBonus(PSTAttributes.LIFE_PER_HIT, Operation.ADDITION, "40b4ee8a-0547-47dd-838b-022f9fd67428",
+					PSTAttributes.LIFE_PER_HIT_IF_WOUNDED, AttributeBonusHandler::getLifePerHitIfWounded, BonusTrigger.HEALTH),
+			new DynamicAttributeBonus(() -> Attributes.MAX_HEALTH, Operation.ADDITION, "b9d32a75-969c-4261-8d3e-91bc87fcffe0",
+					PSTAttributes.MAXIMUM_LIFE_PER_ARROW_IN_QUIVER, AttributeBonusHandler::getMaximumLifePerArrowInQuiver, BonusTrigger.CURIOS),
+			new DynamicAttributeBonus(() -> Attributes.LUCK, Operation.ADDITION, "f1d6e303-1682-4e13-9548-cde588b4e306",
+					PSTAttributes.LUCK_WHILE_FISHING, AttributeBonusHandler::getLuckWhileFishing, BonusTrigger.FISHING));
 
 	@SubscribeEvent
 	public static void applyCritBonus(CriticalHitEvent event) {
 		if (!(event.getEntity() instanceof ServerPlayer player)) return;
 		if (!(event.getTarget() instanceof LivingEntity target)) return;
-		float critChance = PlayerHelper.getCritChance(player, target);
+		CombatContext context = new CombatContext(player, target, DamageSource.playerAttack(player));
+		float critChance = PlayerHelper.getCritChance(context);
 		if (!event.isVanillaCritical() && event.getEntity().getRandom().nextFloat() >= critChance) return;
-		float critDamage = PlayerHelper.getCritDamage(player, target, true);
+		float critDamage = PlayerHelper.getCritDamage(context);
 		event.setDamageModifier(event.getDamageModifier() + critDamage);
 		if (!event.isVanillaCritical()) {
 			event.setDamageModifier(event.getDamageModifier() + 0.5F);
@@ -139,272 +217,201 @@ public class AttributeBonusHandler {
 		}
 	}
 
+	public static void applyDynamicAttributeBonuses(ServerPlayer player) {
+		DynamicBonusState state = getDynamicBonusState(player);
+		int triggers = state.pollTriggers(player);
+		TrackedAttributeMap attributes = (TrackedAttributeMap) player.getAttributes();
+		for (int i = 0; i < DYNAMIC_BONUSES.size(); i++) {
+			DynamicAttributeBonus bonus = DYNAMIC_BONUSES.get(i);
+			boolean scalingAttributesModified = state.updateAttributeStamp(i, bonus.getAttributeStamp(attributes));
+			if (scalingAttributesModified || bonus.dependsOn(triggers)) applyDynamicAttributeBonus(player, bonus);
+		}
+	}
+
+	public static int getDynamicBonusesCount() {
+		return DYNAMIC_BONUSES.size();
+	}
+
+	@SubscribeEvent
+	public static void markEquipmentBonusesDirty(LivingEquipmentChangeEvent event) {
+		if (!(event.getEntity() instanceof ServerPlayer player)) return;
+		((EquipmentProfileContainer) player).getEquipmentProfile().markDirty();
+		getDynamicBonusState(player).markDirty(BonusTrigger.EQUIPMENT);
+	}
+
+	@SubscribeEvent
+	public static void markCuriosBonusesDirty(CurioChangeEvent event) {
+		if (!(event.getEntity() instanceof ServerPlayer player)) return;
+		((CuriosIndexContainer) player).getCuriosIndex().markDirty();
+		getDynamicBonusState(player).markDirty(BonusTrigger.CURIOS);
+	}
+
+	@SubscribeEvent
+	public static void markEffectBonusesDirty(MobEffectEvent.Added event) {
+		if (!(event.getEntity() instanceof ServerPlayer player)) return;
+		getDynamicBonusState(player).markDirty(BonusTrigger.EFFECTS);
+	}
+
 	@SubscribeEvent
-	public static void applyDynamicAttributeBonuses(PlayerTickEvent event) {
-		if (event.player.level.isClientSide) return;
-		ServerPlayer player = (ServerPlayer) event.player;
-		applyDynamicAttributeBonus(player, Attributes.MAX_HEALTH, Operation.ADDITION, "d1f7e78b-3368-409c-aa89-90f0f89a5524",
-				AttributeBonusHandler::getMaximumLifePerEvasion);
-		applyDynamicAttributeBonus(player, Attributes.MAX_HEALTH, Operation.ADDITION, "b68181bd-fbc4-4a63-95d4-df386fe3f71f",
-				AttributeBonusHandler::getMaximumLifePerGemInArmor);
-		applyDynamicAttributeBonus(player, Attributes.ARMOR, Operation.ADDITION, "7cb71ee5-8715-40ae-a877-72ec3b49b33e",
-				AttributeBonusHandler::getArmorPerEvasion);
-		applyDynamicAttributeBonus(player, Attributes.ARMOR, Operation.ADDITION, "66eae15c-53eb-4a4a-b511-2ab94f81324b",
-				AttributeBonusHandler::getArmorPerGemInChestplate);
-		applyDynamicAttributeBonus(player, Attributes.ARMOR, Operation.ADDITION, "1080308c-bdd4-4693-876c-a36390b66b73",
-				AttributeBonusHandler::getArmorPerGemInHelmet);
-		applyDynamicAttributeBonus(player, Attributes.ATTACK_DAMAGE, Operation.ADDITION, "d1079882-dd8c-42b7-9a43-3928553193c8",
-				AttributeBonusHandler::getDamagePerArmor);
-		applyDynamicAttributeBonus(player, Attributes.MAX_HEALTH, Operation.ADDITION, "9199d7cf-c7e4-4123-b636-6f6591e1137d",
-				AttributeBonusHandler::getMaximumLifePerArmor);
-		applyDynamicAttributeBonus(player, Attributes.MAX_HEALTH, Operation.ADDITION, "8810227f-9798-4890-8400-91c0941a3fc0",
-				AttributeBonusHandler::getMaximumLifePerBootsArmor);
-		applyDynamicAttributeBonus(player, Attributes.MAX_HEALTH, Operation.ADDITION, "98a17cd0-68c8-4808-8981-1796c33295e7",
-				AttributeBonusHandler::getMaximumLifePerSatisfiedHunger);
-		applyDynamicAttributeBonus(player, PSTAttributes.EVASION.get(), Operation.MULTIPLY_BASE, "4aa87d74-b729-4e1d-9c76-893495050416",
-				AttributeBonusHandler::getEvasionUnderPotionEffect);
-		applyDynamicAttributeBonus(player, Attributes.ATTACK_SPEED, Operation.MULTIPLY_TOTAL, "a4daf7f8-29e3-404d-8277-9215a16ef4c8",
-				AttributeBonusHandler::getAttackSpeedUnderPotionEffect);
-		applyDynamicAttributeBonus(player, Attributes.MAX_HEALTH, Operation.ADDITION, "de712f9d-9f47-475c-8b86-188bca70d1df",
-				AttributeBonusHandler::getMaximumLifeUnderPotionEffect);
-		applyDynamicAttributeBonus(player, PSTAttributes.EVASION.get(), Operation.MULTIPLY_BASE, "282c4f81-7b6d-48e0-82c9-c4ebd58265cb",
-				AttributeBonusHandler::getEvasionPerPotionEffect);
-		applyDynamicAttributeBonus(player, Attributes.MAX_HEALTH, Operation.ADDITION, "16c35c5c-56da-4d21-ad56-bd6618fee711",
-				AttributeBonusHandler::getMaximumLifeWithEnchantedItem);
-		applyDynamicAttributeBonus(player, Attributes.ARMOR, Operation.ADDITION, "8b836bea-4c28-4430-8184-7330530239f6",
-				AttributeBonusHandler::getArmorWithEnchantedShield);
-		applyDynamicAttributeBonus(player, Attributes.MAX_HEALTH, Operation.ADDITION, "27b4644b-96a0-4443-89e5-1700af61d602",
-				AttributeBonusHandler::getMaximumLifePerEnchantment);
-		applyDynamicAttributeBonus(player, Attributes.ARMOR, Operation.ADDITION, "55c3cb58-c09e-465a-a812-6a18ae587ec0",
-				AttributeBonusHandler::getArmorPerChestplateEnchantment);
-		applyDynamicAttributeBonus(player, Attributes.MAX_HEALTH, Operation.ADDITION, "9b1e9aac-fa58-4343-ba88-7541eca2836f",
-				AttributeBonusHandler::getMaximumLifePerArmorEnchantment);
-		applyDynamicAttributeBonus(player, Attributes.ATTACK_SPEED, Operation.MULTIPLY_TOTAL, "5e2d6a95-bc70-4f3d-a348-307b49f5bc84",
-				AttributeBonusHandler::getAttackSpeedWithGemInWeapon);
-		applyDynamicAttributeBonus(player, PSTAttributes.BLOCK_CHANCE.get(), Operation.MULTIPLY_BASE, "bfbc3d6b-7c37-498b-888c-3b05c921f24a",
-				AttributeBonusHandler::getBlockChanceWithEnchantedShield);
-		applyDynamicAttributeBonus(player, PSTAttributes.EVASION.get(), Operation.MULTIPLY_BASE, "d2865c2c-d5cc-4de9-a793-752349d27da0",
-				AttributeBonusHandler::getEvasionChanceWhenWounded);
-		applyDynamicAttributeBonus(player, Attributes.ATTACK_SPEED, Operation.MULTIPLY_BASE, "f6dbc327-88c0-4704-b230-91fe1642dc7a",
-				AttributeBonusHandler::getAttackSpeedIfNotHungry);
-		applyDynamicAttributeBonus(player, Attributes.ATTACK_SPEED, Operation.MULTIPLY_BASE, "5d449ea8-12dd-4596-a6e1-e4837946acb6",
-				AttributeBonusHandler::getAttackSpeedWithRangedWeapon);
-		applyDynamicAttributeBonus(player, Attributes.ATTACK_SPEED, Operation.MULTIPLY_BASE, "e37a2257-8511-4ffb-a5dd-913b591dd520",
-				AttributeBonusHandler::getAttackSpeedPerGemInWeapon);
-		applyDynamicAttributeBonus(player, PSTAttributes.CRIT_CHANCE.get(), Operation.MULTIPLY_BASE, "44984187-74c8-4927-be18-1e187ca9babe",
-				AttributeBonusHandler::getCritChanceIfNotHungry);
-		applyDynamicAttributeBonus(player, Attributes.ATTACK_SPEED, Operation.MULTIPLY_BASE, "7bd1d9fb-4a20-41f3-89df-7cb42e849c5f",
-				AttributeBonusHandler::getAttackWithEnchantedWeapon);
-		applyDynamicAttributeBonus(player, PSTAttributes.LIFE_PER_HIT.get(), Operation.ADDITION, "9c36d4dc-06e3-4f42-b8e6-abb0fb6b344c",
-				AttributeBonusHandler::getLifePerHitUnderPotionEffect);
-		applyDynamicAttributeBonus(player, Attributes.MAX_HEALTH, Operation.ADDITION, "77353761-61e2-4f3c-b0e4-2abef4b75d76",
-				AttributeBonusHandler::getMaximumLifePerGemInHelmet);
-		applyDynamicAttributeBonus(player, PSTAttributes.CRIT_CHANCE.get(), Operation.MULTIPLY_BASE, "636b118d-478b-4c4e-9785-b6e7da876828",
-				AttributeBonusHandler::getCritChancePerGemInWeapon);
-		applyDynamicAttributeBonus(player, PSTAttributes.CRIT_DAMAGE.get(), Operation.MULTIPLY_BASE, "3051c828-7281-458c-b6fc-df9d93b31d30",
-				AttributeBonusHandler::getCritDamagePerGemInWeapon);
-		applyDynamicAttributeBonus(player, PSTAttributes.LIFE_REGENERATION.get(), Operation.ADDITION, "6732aed2-1948-4e86-a83c-aad617cd4387",
-				AttributeBonusHandler::getLifeRegenerationPerGemInHelmet);
-		applyDynamicAttributeBonus(player, Attributes.ATTACK_SPEED, Operation.MULTIPLY_BASE, "b983bec3-a049-49d7-855e-3025b283c7d2",
-				AttributeBonusHandler::getAttackSpeedWithShield);
-		applyDynamicAttributeBonus(player, PSTAttributes.LIFE_REGENERATION.get(), Operation.ADDITION, "d86d8efb-4539-46f3-b157-672b2e1241d6",
-				AttributeBonusHandler::getLifeRegenerationWithShield);
-		applyDynamicAttributeBonus(player, Attributes.ARMOR, Operation.ADDITION, "f11460ca-56f9-4cff-98ea-791ed27f6639",
-				AttributeBonusHandler::getBonusChestplateArmor);
-		applyDynamicAttributeBonus(player, PSTAttributes.LIFE_ON_BLOCK.get(), Operation.ADDITION, "6dccce60-76e9-4ca0-8497-8352ba26620d",
-				AttributeBonusHandler::getLifeOnBlockPerShieldEnchantment);
-		applyDynamicAttributeBonus(player, PSTAttributes.BLOCK_CHANCE.get(), Operation.MULTIPLY_BASE, "7ea18323-13e4-43ee-bb30-decfdc1b1299",
-				AttributeBonusHandler::getBlockChancePerShieldEnchantment);
-		applyDynamicAttributeBonus(player, PSTAttributes.BLOCK_CHANCE.get(), Operation.MULTIPLY_BASE, "629ecea2-51b4-415a-80ff-4137a0f0dce1",
-				AttributeBonusHandler::getBlockChanceIfNotHungry);
-		applyDynamicAttributeBonus(player, PSTAttributes.BLOCK_CHANCE.get(), Operation.MULTIPLY_BASE, "fb0934db-cdbb-4fa6-bf4f-d3c0c12f50be",
-				AttributeBonusHandler::getBlockChancePerSatisfiedHunger);
-		applyDynamicAttributeBonus(player, PSTAttributes.LIFE_ON_BLOCK.get(), Operation.ADDITION, "793d56a0-7d0c-4bec-a328-65d6d681ec44",
-				AttributeBonusHandler::getLifeOnBlockIfNotHungry);
-		applyDynamicAttributeBonus(player, Attributes.MAX_HEALTH, Operation.ADDITION, "e529b2e9-2170-430c-b77d-cfe829f66c69",
-				AttributeBonusHandler::getMaximumLifeIfNotHungry);
-		applyDynamicAttributeBonus(player, Attributes.MAX_HEALTH, Operation.ADDITION, "c5fae151-36ee-4f93-a917-500b524587ec",
-				AttributeBonusHandler::getMaximumLifePerEquippedJewelry);
-		applyDynamicAttributeBonus(player, Attributes.ATTACK_DAMAGE, Operation.MULTIPLY_BASE, "7a6b2991-006d-4858-8369-185169fc72a4",
-				AttributeBonusHandler::getAttackSpeedIfWounded);
-		applyDynamicAttributeBonus(player, PSTAttributes.CRIT_CHANCE.get(), Operation.MULTIPLY_BASE, "f752700c-d928-40c2-8f53-870e89669fc4",
-				AttributeBonusHandler::getCritChanceIfWounded);
-		applyDynamicAttributeBonus(player, PSTAttributes.LIFE_PER_HIT.get(), Operation.ADDITION, "40b4ee8a-0547-47dd-838b-022f9fd67428",
-				AttributeBonusHandler::getLifePerHitIfWounded);
-		applyDynamicAttributeBonus(player, Attributes.MAX_HEALTH, Operation.ADDITION, "b9d32a75-969c-4261-8d3e-91bc87fcffe0",
-				AttributeBonusHandler::getMaximumLifePerArrowInQuiver);
-		applyDynamicAttributeBonus(player, Attributes.LUCK, Operation.ADDITION, "f1d6e303-1682-4e13-9548-cde588b4e306",
-				AttributeBonusHandler::getLuckWhileFishing);
-	}
-
-	private static void applyDynamicAttributeBonus(ServerPlayer player, Attribute attribute, Operation operation, String id,
-			Function<ServerPlayer, Double> function) {
-		double bonus = function.apply(player);
-		UUID modifierId = UUID.fromString(id);
+	public static void markEffectBonusesDirty(MobEffectEvent.Remove event) {
+		if (!(event.getEntity() instanceof ServerPlayer player)) return;
+		getDynamicBonusState(player).markDirty(BonusTrigger.EFFECTS);
+	}
+
+	@SubscribeEvent
+	public static void markEffectBonusesDirty(MobEffectEvent.Expired event) {
+		if (!(event.getEntity() instanceof ServerPlayer player)) return;
+		getDynamicBonusState(player).markDirty(BonusTrigger.EFFECTS);
+	}
+
+	private static DynamicBonusState getDynamicBonusState(Player player) {
+		return ((DynamicBonusContainer) player).getDynamicBonusState();
+	}
+
+	private static void applyDynamicAttributeBonus(ServerPlayer player, DynamicAttributeBonus bonus) {
+		double amount = bonus.calculate(player);
+		UUID modifierId = bonus.getModifierId();
+		Attribute attribute = bonus.getAttribute();
 		AttributeInstance playerAttribute = player.getAttribute(attribute);
 		AttributeModifier oldModifier = playerAttribute.getModifier(modifierId);
 		if (oldModifier != null) {
-			if (oldModifier.getAmount() == bonus) return;
+			if (oldModifier.getAmount() == amount) return;
 			playerAttribute.removeModifier(modifierId);
 		}
+		AttributeModifier modifier = new AttributeModifier(modifierId, "Skill Tree Bonus", amount, bonus.getOperation());
 		if (attribute == Attributes.MAX_HEALTH) {
-			playerAttribute.addPermanentModifier(new AttributeModifier(modifierId, "Skill Tree Bonus", bonus, operation));
+			playerAttribute.addPermanentModifier(modifier);
 			player.setHealth(player.getHealth());
 		} else {
-			playerAttribute.addTransientModifier(new AttributeModifier(modifierId, "Skill Tree Bonus", bonus, operation));
+			playerAttribute.addTransientModifier(modifier);
 		}
 	}
 
 	private static double getMaximumLifePerEvasion(ServerPlayer player) {
-		var lifePerEvasion = player.getAttributeValue(PSTAttributes.MAXIMUM_LIFE_PER_EVASION.get());
-		var evasion = player.getAttributeValue(PSTAttributes.EVASION.get()) - 1;
+		var lifePerEvasion = PlayerHelper.getAttributeValue(player, PSTAttributes.MAXIMUM_LIFE_PER_EVASION);
+		var evasion = PlayerHelper.getAttributeValue(player, PSTAttributes.EVASION) - 1;
 		return evasion * lifePerEvasion * 100;
 	}
 
 	private static double getMaximumLifePerGemInArmor(ServerPlayer player) {
-		var lifePerGemInArmor = player.getAttributeValue(PSTAttributes.MAXIMUM_LIFE_PER_GEM_IN_ARMOR.get());
-		var gemstonesInArmor = 0;
-		for (var slot = 0; slot < 4; slot++) {
-			var itemInSlot = player.getItemBySlot(EquipmentSlot.byTypeAndIndex(Type.ARMOR, slot));
-			gemstonesInArmor += GemHelper.getGemsCount(itemInSlot);
-		}
+		var lifePerGemInArmor = PlayerHelper.getAttributeValue(player, PSTAttributes.MAXIMUM_LIFE_PER_GEM_IN_ARMOR);
+		var gemstonesInArmor = PlayerHelper.getEquipmentProfile(player).getArmorGems();
 		return lifePerGemInArmor * gemstonesInArmor;
 	}
 
 	private static double getMaximumLifePerGemInHelmet(ServerPlayer player) {
-		var lifePerGemInHelmet = player.getAttributeValue(PSTAttributes.MAXIMUM_LIFE_PER_GEM_IN_HELMET.get());
-		var helmet = player.getItemBySlot(EquipmentSlot.HEAD);
-		var gemstonesInHelmet = GemHelper.getGemsCount(helmet);
+		var lifePerGemInHelmet = PlayerHelper.getAttributeValue(player, PSTAttributes.MAXIMUM_LIFE_PER_GEM_IN_HELMET);
+		var gemstonesInHelmet = PlayerHelper.getEquipmentProfile(player).getGems(EquipmentSlot.HEAD);
 		return lifePerGemInHelmet * gemstonesInHelmet;
 	}
 
 	private static double getArmorPerEvasion(ServerPlayer player) {
-		var armorPerEvasion = player.getAttributeValue(PSTAttributes.ARMOR_PER_EVASION.get());
-		var evasion = player.getAttributeValue(PSTAttributes.EVASION.get()) - 1;
+		var armorPerEvasion = PlayerHelper.getAttributeValue(player, PSTAttributes.ARMOR_PER_EVASION);
+		var evasion = PlayerHelper.getAttributeValue(player, PSTAttributes.EVASION) - 1;
 		return evasion * armorPerEvasion * 100;
 	}
 
 	private static double getArmorPerGemInChestplate(ServerPlayer player) {
-		var armorPerGemInChestplate = player.getAttributeValue(PSTAttributes.ARMOR_PER_GEM_IN_CHESTPLATE.get());
-		var getmstonesInChestplate = GemHelper.getGemsCount(player.getItemBySlot(EquipmentSlot.CHEST));
+		var armorPerGemInChestplate = PlayerHelper.getAttributeValue(player, PSTAttributes.ARMOR_PER_GEM_IN_CHESTPLATE);
+		var getmstonesInChestplate = PlayerHelper.getEquipmentProfile(player).getGems(EquipmentSlot.CHEST);
 		return armorPerGemInChestplate * getmstonesInChestplate;
 	}
 
 	private static double getArmorPerGemInHelmet(ServerPlayer player) {
-		var armorPerGemInHelmet = player.getAttributeValue(PSTAttributes.ARMOR_PER_GEM_IN_HELMET.get());
-		var getmstonesInHelmet = GemHelper.getGemsCount(player.getItemBySlot(EquipmentSlot.HEAD));
+		var armorPerGemInHelmet = PlayerHelper.getAttributeValue(player, PSTAttributes.ARMOR_PER_GEM_IN_HELMET);
+		var getmstonesInHelmet = PlayerHelper.getEquipmentProfile(player).getGems(EquipmentSlot.HEAD);
 		return armorPerGemInHelmet * getmstonesInHelmet;
 	}
 
 	private static double getDamagePerArmor(ServerPlayer player) {
-		var damagePerArmor = player.getAttributeValue(PSTAttributes.ATTACK_DAMAGE_PER_ARMOR.get());
+		var damagePerArmor = PlayerHelper.getAttributeValue(player, PSTAttributes.ATTACK_DAMAGE_PER_ARMOR);
 		var armor = player.getAttributeValue(Attributes.ARMOR);
 		return damagePerArmor * armor;
 	}
 
 	private static double getMaximumLifePerArmor(ServerPlayer player) {
-		var maximumLifePerArmor = player.getAttributeValue(PSTAttributes.MAXIMUM_LIFE_PER_ARMOR.get());
+		var maximumLifePerArmor = PlayerHelper.getAttributeValue(player, PSTAttributes.MAXIMUM_LIFE_PER_ARMOR);
 		var armor = player.getAttributeValue(Attributes.ARMOR);
 		return maximumLifePerArmor * armor;
 	}
 
 	private static double getMaximumLifePerBootsArmor(ServerPlayer player) {
-		var maximumLifePerBootsArmor = player.getAttributeValue(PSTAttributes.MAXIMUM_LIFE_PER_BOOTS_ARMOR.get());
-		var boots = player.getItemBySlot(EquipmentSlot.FEET);
-		var bootsArmor = new AtomicDouble();
-		boots.getAttributeModifiers(EquipmentSlot.FEET).forEach((attribute, modifier) -> {
-			if (attribute == Attributes.ARMOR && modifier.getOperation() == Operation.ADDITION) {
-				bootsArmor.addAndGet(modifier.getAmount());
-			}
-		});
-		if (bootsArmor.get() == 0) return 0;
-		return bootsArmor.doubleValue() * maximumLifePerBootsArmor;
+		var maximumLifePerBootsArmor = PlayerHelper.getAttributeValue(player, PSTAttributes.MAXIMUM_LIFE_PER_BOOTS_ARMOR);
+		var bootsArmor = PlayerHelper.getEquipmentProfile(player).getArmor(EquipmentSlot.FEET);
+		if (bootsArmor == 0) return 0;
+		return bootsArmor * maximumLifePerBootsArmor;
 	}
 
 	private static double getMaximumLifePerSatisfiedHunger(ServerPlayer player) {
-		var maximumLifePerSatisfiedHunger = player.getAttributeValue(PSTAttributes.MAXIMUM_LIFE_PER_SATISFIED_HUNGER.get());
+		var maximumLifePerSatisfiedHunger = PlayerHelper.getAttributeValue(player, PSTAttributes.MAXIMUM_LIFE_PER_SATISFIED_HUNGER);
 		var satisfiedHunger = player.getFoodData().getFoodLevel();
 		return satisfiedHunger * maximumLifePerSatisfiedHunger;
 	}
 
 	private static double getEvasionUnderPotionEffect(ServerPlayer player) {
-		var evasionUnderPotionEffect = player.getAttributeValue(PSTAttributes.EVASION_UNDER_POTION_EFFECT.get()) - 1;
+		var evasionUnderPotionEffect = PlayerHelper.getAttributeValue(player, PSTAttributes.EVASION_UNDER_POTION_EFFECT) - 1;
 		var hasPotionEffect = !player.getActiveEffects().isEmpty();
 		return hasPotionEffect ? evasionUnderPotionEffect : 0;
 	}
 
 	private static double getAttackSpeedUnderPotionEffect(ServerPlayer player) {
-		var attackSpeedUnderPotionEffect = player.getAttributeValue(PSTAttributes.ATTACK_SPEED_UNDER_POTION_EFFECT.get()) - 1;
+		var attackSpeedUnderPotionEffect = PlayerHelper.getAttributeValue(player, PSTAttributes.ATTACK_SPEED_UNDER_POTION_EFFECT) - 1;
 		var hasPotionEffect = !player.getActiveEffects().isEmpty();
 		return hasPotionEffect ? attackSpeedUnderPotionEffect : 0;
 	}
 
 	private static double getMaximumLifeUnderPotionEffect(ServerPlayer player) {
-		var maximumLifeUnderPotionEffect = player.getAttributeValue(PSTAttributes.MAXIMUM_LIFE_UNDER_POTION_EFFECT.get());
+		var maximumLifeUnderPotionEffect = PlayerHelper.getAttributeValue(player, PSTAttributes.MAXIMUM_LIFE_UNDER_POTION_EFFECT);
 		var hasPotionEffect = !player.getActiveEffects().isEmpty();
 		return hasPotionEffect ? maximumLifeUnderPotionEffect : 0;
 	}
 
 	private static double getEvasionPerPotionEffect(ServerPlayer player) {
-		var evasionPerPotionEffect = player.getAttributeValue(PSTAttributes.EVASION_PER_POTION_EFFECT.get()) - 1;
+		var evasionPerPotionEffect = PlayerHelper.getAttributeValue(player, PSTAttributes.EVASION_PER_POTION_EFFECT) - 1;
 		var potionEffectCount = player.getActiveEffects().size();
 		return potionEffectCount * evasionPerPotionEffect;
 	}
 
 	private static double getMaximumLifeWithEnchantedItem(ServerPlayer player) {
-		var maximumLifeWithEnchantedItem = player.getAttributeValue(PSTAttributes.MAXIMUM_LIFE_WITH_ENCHANTED_ITEM.get());
-		for (var slot : EquipmentSlot.values()) {
-			var isItemEnchanted = player.getItemBySlot(slot).isEnchanted();
-			if (isItemEnchanted) return maximumLifeWithEnchantedItem;
-		}
-		return 0D;
+		var maximumLifeWithEnchantedItem = PlayerHelper.getAttributeValue(player, PSTAttributes.MAXIMUM_LIFE_WITH_ENCHANTED_ITEM);
+		var hasEnchantedItem = PlayerHelper.getEquipmentProfile(player).hasEnchantedItem();
+		return hasEnchantedItem ? maximumLifeWithEnchantedItem : 0D;
 	}
 
 	private static double getArmorWithEnchantedShield(ServerPlayer player) {
-		var offhandItem = player.getOffhandItem();
-		if (!ItemHelper.isShield(offhandItem) || !offhandItem.isEnchanted()) return 0D;
-		var armorWithEnchantedShield = player.getAttributeValue(PSTAttributes.ARMOR_WITH_ENCHANTED_SHIELD.get());
+		var equipment = PlayerHelper.getEquipmentProfile(player);
+		if (!equipment.hasShield() || !equipment.isEnchanted(EquipmentSlot.OFFHAND)) return 0D;
+		var armorWithEnchantedShield = PlayerHelper.getAttributeValue(player, PSTAttributes.ARMOR_WITH_ENCHANTED_SHIELD);
 		return armorWithEnchantedShield;
 	}
 
 	private static double getMaximumLifePerEnchantment(ServerPlayer player) {
-		var maximumLifePerEnchantment = player.getAttributeValue(PSTAttributes.MAXIMUM_LIFE_PER_ENCHANTMENT.get());
-		var enchantmentCount = 0;
-		for (var slot : EquipmentSlot.values()) {
-			var itemInSlot = player.getItemBySlot(slot);
-			if (!itemInSlot.isEnchanted()) continue;
-			enchantmentCount += itemInSlot.getAllEnchantments().size();
-		}
+		var maximumLifePerEnchantment = PlayerHelper.getAttributeValue(player, PSTAttributes.MAXIMUM_LIFE_PER_ENCHANTMENT);
+		var enchantmentCount = PlayerHelper.getEquipmentProfile(player).getEnchantments();
 		return maximumLifePerEnchantment * enchantmentCount;
 	}
 
 	private static double getArmorPerChestplateEnchantment(ServerPlayer player) {
-		var armorPerChestplateEnchantment = player.getAttributeValue(PSTAttributes.ARMOR_PER_CHESTPLATE_ENCHANTMENT.get());
-		var chestplate = player.getItemBySlot(EquipmentSlot.CHEST);
-		var enchantmentCount = chestplate.getAllEnchantments().size();
+		var armorPerChestplateEnchantment = PlayerHelper.getAttributeValue(player, PSTAttributes.ARMOR_PER_CHESTPLATE_ENCHANTMENT);
+		var enchantmentCount = PlayerHelper.getEquipmentProfile(player).getEnchantments(EquipmentSlot.CHEST);
 		return armorPerChestplateEnchantment * enchantmentCount;
 	}
 
 	private static double getMaximumLifePerArmorEnchantment(ServerPlayer player) {
-		var maximumLifePerArmorEnchantment = player.getAttributeValue(PSTAttributes.MAXIMUM_LIFE_PER_ARMOR_ENCHANTMENT.get());
-		var enchantmentCount = 0;
-		for (var slot = 0; slot < 4; slot++) {
-			var itemInSlot = player.getItemBySlot(EquipmentSlot.byTypeAndIndex(Type.ARMOR, slot));
-			if (!itemInSlot.isEnchanted()) continue;
-			enchantmentCount += itemInSlot.getAllEnchantments().size();
-		}
+		var maximumLifePerArmorEnchantment = PlayerHelper.getAttributeValue(player, PSTAttributes.MAXIMUM_LIFE_PER_ARMOR_ENCHANTMENT);
+		var enchantmentCount = PlayerHelper.getEquipmentProfile(player).getArmorEnchantments();
 		return maximumLifePerArmorEnchantment * enchantmentCount;
 	}
 
 	private static double getAttackSpeedWithGemInWeapon(ServerPlayer player) {
-		if (!GemHelper.hasGem(player.getMainHandItem(), 0)) return 0;
-		return player.getAttributeValue(PSTAttributes.ATTACK_SPEED_WITH_GEM_IN_WEAPON.get()) - 1;
+		if (!PlayerHelper.getEquipmentProfile(player).hasGemInWeapon()) return 0;
+		return PlayerHelper.getAttributeValue(player, PSTAttributes.ATTACK_SPEED_WITH_GEM_IN_WEAPON) - 1;
 	}
 
 	private static double getBlockChanceWithEnchantedShield(ServerPlayer player) {
-		var offhandItem = player.getOffhandItem();
-		if (!ItemHelper.isShield(offhandItem) || !offhandItem.isEnchanted()) return 0D;
-		return player.getAttributeValue(PSTAttributes.BLOCK_CHANCE_WITH_ENCHANTED_SHIELD.get()) - 1;
+		var equipment = PlayerHelper.getEquipmentProfile(player);
+		if (!equipment.hasShield() || !equipment.isEnchanted(EquipmentSlot.OFFHAND)) return 0D;
+		return PlayerHelper.getAttributeValue(player, PSTAttributes.BLOCK_CHANCE_WITH_ENCHANTED_SHIELD) - 1;
 	}
 
 	private static double getEvasionChanceWhenWounded(ServerPlayer player) {
@@ -412,7 +419,7 @@ public class AttributeBonusHandler {
 		if (!isWounded) {
 			return 0D;
 		}
-		var evasionChanceWhenWounded = player.getAttributeValue(PSTAttributes.EVASION_CHANCE_WHEN_WOUNDED.get()) - 1;
+		var evasionChanceWhenWounded = PlayerHelper.getAttributeValue(player, PSTAttributes.EVASION_CHANCE_WHEN_WOUNDED) - 1;
 		return evasionChanceWhenWounded;
 	}
 
@@ -421,36 +428,36 @@ public class AttributeBonusHandler {
 		if (isHungry) {
 			return 0D;
 		}
-		var attackSpeedIfNotHungry = player.getAttributeValue(PSTAttributes.ATTACK_SPEED_IF_NOT_HUNGRY.get()) - 1;
+		var attackSpeedIfNotHungry = PlayerHelper.getAttributeValue(player, PSTAttributes.ATTACK_SPEED_IF_NOT_HUNGRY) - 1;
 		return attackSpeedIfNotHungry;
 	}
 
 	private static double getAttackSpeedWithRangedWeapon(ServerPlayer player) {
-		var hasRangedWeapon = ItemHelper.isRangedWeapon(player.getMainHandItem());
+		var hasRangedWeapon = PlayerHelper.getEquipmentProfile(player).hasRangedWeapon();
 		if (!hasRangedWeapon) return 0D;
-		var attackSpeedWithBow = player.getAttributeValue(PSTAttributes.ATTACK_SPEED_WITH_RANGED_WEAPON.get()) - 1;
+		var attackSpeedWithBow = PlayerHelper.getAttributeValue(player, PSTAttributes.ATTACK_SPEED_WITH_RANGED_WEAPON) - 1;
 		return attackSpeedWithBow;
 	}
 
 	private static double getAttackSpeedPerGemInWeapon(ServerPlayer player) {
-		var mainHandItem = player.getMainHandItem();
-		if (!ItemHelper.isWeapon(mainHandItem)) return 0D;
-		var gemstonesInWeapon = GemHelper.getGemsCount(mainHandItem);
+		var equipment = PlayerHelper.getEquipmentProfile(player);
+		if (!equipment.hasWeapon()) return 0D;
+		var gemstonesInWeapon = equipment.getGems(EquipmentSlot.MAINHAND);
 		if (gemstonesInWeapon == 0) return 0D;
-		var attackSpeedPerGemInWeapon = player.getAttributeValue(PSTAttributes.ATTACK_SPEED_PER_GEM_IN_WEAPON.get()) - 1;
+		var attackSpeedPerGemInWeapon = PlayerHelper.getAttributeValue(player, PSTAttributes.ATTACK_SPEED_PER_GEM_IN_WEAPON) - 1;
 		return attackSpeedPerGemInWeapon * gemstonesInWeapon;
 	}
 
 	private static double getCritChancePerGemInWeapon(ServerPlayer player) {
-		var mainHandItem = player.getMainHandItem();
-		if (!ItemHelper.isWeapon(mainHandItem)) {
+		var equipment = PlayerHelper.getEquipmentProfile(player);
+		if (!equipment.hasWeapon()) {
 			return 0D;
 		}
-		var gemstonesInWeapon = GemHelper.getGemsCount(mainHandItem);
+		var gemstonesInWeapon = equipment.getGems(EquipmentSlot.MAINHAND);
 		if (gemstonesInWeapon == 0) {
 			return 0D;
 		}
-		var critChancePerGemInWeapon = player.getAttributeValue(PSTAttributes.CRIT_CHANCE_PER_GEM_IN_WEAPON.get()) - 1;
+		var critChancePerGemInWeapon = PlayerHelper.getAttributeValue(player, PSTAttributes.CRIT_CHANCE_PER_GEM_IN_WEAPON) - 1;
 		return critChancePerGemInWeapon * gemstonesInWeapon;
 	}
 
@@ -459,207 +466,196 @@ public class AttributeBonusHandler {
 		if (isHungry) {
 			return 0D;
 		}
-		var critChanceIfNotHungry = player.getAttributeValue(PSTAttributes.CRIT_CHANCE_IF_NOT_HUNGRY.get()) - 1;
+		var critChanceIfNotHungry = PlayerHelper.getAttributeValue(player, PSTAttributes.CRIT_CHANCE_IF_NOT_HUNGRY) - 1;
 		return critChanceIfNotHungry;
 	}
 
 	private static double getAttackWithEnchantedWeapon(ServerPlayer player) {
-		var mainHandItem = player.getMainHandItem();
-		if (!ItemHelper.isWeapon(mainHandItem) || !mainHandItem.isEnchanted()) {
+		var equipment = PlayerHelper.getEquipmentProfile(player);
+		if (!equipment.hasWeapon() || !equipment.isEnchanted(EquipmentSlot.MAINHAND)) {
 			return 0D;
 		}
-		var attackWithEnchantedWeapon = player.getAttributeValue(PSTAttributes.ATTACK_SPEED_WITH_ENCHANTED_WEAPON.get()) - 1;
+		var attackWithEnchantedWeapon = PlayerHelper.getAttributeValue(player, PSTAttributes.ATTACK_SPEED_WITH_ENCHANTED_WEAPON) - 1;
 		return attackWithEnchantedWeapon;
 	}
 
 	private static double getLifePerHitUnderPotionEffect(ServerPlayer player) {
-		var lifePerHitUnderPotionEffect = player.getAttributeValue(PSTAttributes.LIFE_PER_HIT_UNDER_POTION_EFFECT.get());
+		var lifePerHitUnderPotionEffect = PlayerHelper.getAttributeValue(player, PSTAttributes.LIFE_PER_HIT_UNDER_POTION_EFFECT);
 		var hasPotionEffect = !player.getActiveEffects().isEmpty();
 		return hasPotionEffect ? lifePerHitUnderPotionEffect : 0;
 	}
 
 	private static double getCritDamagePerGemInWeapon(ServerPlayer player) {
-		var mainHandItem = player.getMainHandItem();
-		if (!ItemHelper.isWeapon(mainHandItem)) {
+		var equipment = PlayerHelper.getEquipmentProfile(player);
+		if (!equipment.hasWeapon()) {
 			return 0D;
 		}
-		var gemstonesInWeapon = GemHelper.getGemsCount(mainHandItem);
+		var gemstonesInWeapon = equipment.getGems(EquipmentSlot.MAINHAND);
 		if (gemstonesInWeapon == 0) {
 			return 0D;
 		}
-		var critDamagePerGemInWeapon = player.getAttributeValue(PSTAttributes.CRIT_DAMAGE_PER_GEM_IN_WEAPON.get()) - 1;
+		var critDamagePerGemInWeapon = PlayerHelper.getAttributeValue(player, PSTAttributes.CRIT_DAMAGE_PER_GEM_IN_WEAPON) - 1;
 		return critDamagePerGemInWeapon * gemstonesInWeapon;
 	}
 
 	private static double getLifeRegenerationPerGemInHelmet(ServerPlayer player) {
-		var lifeRegenerationPerGemInHelmet = player.getAttributeValue(PSTAttributes.LIFE_REGENERATION_PER_GEM_IN_HELMET.get());
-		var getmstonesInHelmet = GemHelper.getGemsCount(player.getItemBySlot(EquipmentSlot.HEAD));
+		var lifeRegenerationPerGemInHelmet = PlayerHelper.getAttributeValue(player, PSTAttributes.LIFE_REGENERATION_PER_GEM_IN_HELMET);
+		var getmstonesInHelmet = PlayerHelper.getEquipmentProfile(player).getGems(EquipmentSlot.HEAD);
 		return lifeRegenerationPerGemInHelmet * getmstonesInHelmet;
 	}
 
 	private static double getAttackSpeedWithShield(ServerPlayer player) {
-		var offhandItem = player.getOffhandItem();
-		if (!ItemHelper.isShield(offhandItem)) {
+		if (!PlayerHelper.getEquipmentProfile(player).hasShield()) {
 			return 0D;
 		}
-		var attackSpeedWithShield = player.getAttributeValue(PSTAttributes.ATTACK_SPEED_WITH_SHIELD.get()) - 1;
+		var attackSpeedWithShield = PlayerHelper.getAttributeValue(player, PSTAttributes.ATTACK_SPEED_WITH_SHIELD) - 1;
 		return attackSpeedWithShield;
 	}
 
 	private static double getLifeRegenerationWithShield(ServerPlayer player) {
-		var offhandItem = player.getOffhandItem();
-		if (!ItemHelper.isShield(offhandItem)) {
+		if (!PlayerHelper.getEquipmentProfile(player).hasShield()) {
 			return 0D;
 		}
-		var lifeRegenerationWithShield = player.getAttributeValue(PSTAttributes.LIFE_REGENERATION_WITH_SHIELD.get());
+		var lifeRegenerationWithShield = PlayerHelper.getAttributeValue(player, PSTAttributes.LIFE_REGENERATION_WITH_SHIELD);
 		return lifeRegenerationWithShield;
 	}
 
 	private static double getBonusChestplateArmor(ServerPlayer player) {
-		var chestplate = player.getItemBySlot(EquipmentSlot.CHEST);
-		if (chestplate.isEmpty()) {
-			return 0D;
-		}
-		var chestplateArmor = new AtomicDouble();
-		chestplate.getAttributeModifiers(EquipmentSlot.CHEST).forEach((attribute, modifier) -> {
-			if (attribute == Attributes.ARMOR && modifier.getOperation() == Operation.ADDITION) {
-				chestplateArmor.addAndGet(modifier.getAmount());
-			}
-		});
-		if (chestplateArmor.get() == 0) {
+		var chestplateArmor = PlayerHelper.getEquipmentProfile(player).getArmor(EquipmentSlot.CHEST);
+		if (chestplateArmor == 0) {
 			return 0;
 		}
-		var bonusChestplateArmor = player.getAttributeValue(PSTAttributes.CHESTPLATE_ARMOR.get()) - 1;
-		return bonusChestplateArmor * chestplateArmor.get();
+		var bonusChestplateArmor = PlayerHelper.getAttributeValue(player, PSTAttributes.CHESTPLATE_ARMOR) - 1;
+		return bonusChestplateArmor * chestplateArmor;
 	}
 
 	private static double getLifeOnBlockPerShieldEnchantment(ServerPlayer player) {
-		var offhandItem = player.getOffhandItem();
-		if (!ItemHelper.isShield(offhandItem)) {
+		var equipment = PlayerHelper.getEquipmentProfile(player);
+		if (!equipment.hasShield()) {
 			return 0D;
 		}
-		var enchantmentsCount = offhandItem.getAllEnchantments().size();
+		var enchantmentsCount = equipment.getEnchantments(EquipmentSlot.OFFHAND);
 		if (enchantmentsCount == 0) {
 			return 0D;
 		}
-		var lifeOnBlockPerShieldEnchantment = player.getAttributeValue(PSTAttributes.LIFE_ON_BLOCK_PER_SHIELD_ENCHANTMENT.get());
+		var lifeOnBlockPerShieldEnchantment = PlayerHelper.getAttributeValue(player, PSTAttributes.LIFE_ON_BLOCK_PER_SHIELD_ENCHANTMENT);
 		return lifeOnBlockPerShieldEnchantment * enchantmentsCount;
 	}
 
 	private static double getBlockChancePerShieldEnchantment(ServerPlayer player) {
-		var offhandItem = player.getOffhandItem();
-		if (!ItemHelper.isShield(offhandItem)) return 0D;
-		int enchantments = offhandItem.getAllEnchantments().size();
+		var equipment = PlayerHelper.getEquipmentProfile(player);
+		if (!equipment.hasShield()) return 0D;
+		int enchantments = equipment.getEnchantments(EquipmentSlot.OFFHAND);
 		if (enchantments == 0) return 0D;
-		var blockChancePerShieldEnchantment = player.getAttributeValue(PSTAttributes.BLOCK_CHANCE_PER_SHIELD_ENCHANTMENT.get()) - 1;
+		var blockChancePerShieldEnchantment = PlayerHelper.getAttributeValue(player, PSTAttributes.BLOCK_CHANCE_PER_SHIELD_ENCHANTMENT) - 1;
 		return blockChancePerShieldEnchantment * enchantments;
 	}
 
 	private static double getBlockChanceIfNotHungry(ServerPlayer player) {
 		var isHungry = player.getFoodData().getFoodLevel() < 10;
 		if (isHungry) return 0D;
-		var blockChanceIfNotHungry = player.getAttributeValue(PSTAttributes.BLOCK_CHANCE_IF_NOT_HUNGRY.get()) - 1;
+		var blockChanceIfNotHungry = PlayerHelper.getAttributeValue(player, PSTAttributes.BLOCK_CHANCE_IF_NOT_HUNGRY) - 1;
 		return blockChanceIfNotHungry;
 	}
 
 	private static double getLifeOnBlockIfNotHungry(ServerPlayer player) {
 		var isHungry = player.getFoodData().getFoodLevel() < 10;
 		if (isHungry) return 0D;
-		var lifeOnBlockIfNotHungry = player.getAttributeValue(PSTAttributes.LIFE_ON_BLOCK_IF_NOT_HUNGRY.get());
+		var lifeOnBlockIfNotHungry = PlayerHelper.getAttributeValue(player, PSTAttributes.LIFE_ON_BLOCK_IF_NOT_HUNGRY);
 		return lifeOnBlockIfNotHungry;
 	}
 
 	private static double getMaximumLifeIfNotHungry(ServerPlayer player) {
 		var isHungry = player.getFoodData().getFoodLevel() < 10;
 		if (isHungry) return 0D;
-		var maximumLifeIfNotHungry = player.getAttributeValue(PSTAttributes.MAXIMUM_LIFE_IF_NOT_HUNGRY.get());
+		var maximumLifeIfNotHungry = PlayerHelper.getAttributeValue(player, PSTAttributes.MAXIMUM_LIFE_IF_NOT_HUNGRY);
 		return maximumLifeIfNotHungry;
 	}
 
 	private static double getBlockChancePerSatisfiedHunger(ServerPlayer player) {
 		var satisfiedHunger = player.getFoodData().getFoodLevel();
 		if (satisfiedHunger == 0) return 0D;
-		var blockChancePerSatisfiedHunger = player.getAttributeValue(PSTAttributes.BLOCK_CHANCE_PER_SATISFIED_HUNGER.get()) - 1;
+		var blockChancePerSatisfiedHunger = PlayerHelper.getAttributeValue(player, PSTAttributes.BLOCK_CHANCE_PER_SATISFIED_HUNGER) - 1;
 		return satisfiedHunger * blockChancePerSatisfiedHunger;
 	}
 
 	private static double getMaximumLifePerEquippedJewelry(ServerPlayer player) {
-		int jewelry = CuriosApi.getCuriosHelper().findCurios(player, "ring", "necklace").size();
+		int jewelry = PlayerHelper.getCuriosIndex(player).getJewelryCount();
 		if (jewelry == 0) return 0D;
-		return jewelry * player.getAttributeValue(PSTAttributes.MAXIMUM_LIFE_PER_EQUIPPED_JEWELRY.get());
+		return jewelry * PlayerHelper.getAttributeValue(player, PSTAttributes.MAXIMUM_LIFE_PER_EQUIPPED_JEWELRY);
 	}
 
 	private static double getAttackSpeedIfWounded(ServerPlayer player) {
 		if (player.getHealth() >= player.getMaxHealth() / 2) return 0D;
-		return player.getAttributeValue(PSTAttributes.ATTACK_SPEED_IF_WOUNDED.get()) - 1;
+		return PlayerHelper.getAttributeValue(player, PSTAttributes.ATTACK_SPEED_IF_WOUNDED) - 1;
 	}
 
 	private static double getCritChanceIfWounded(ServerPlayer player) {
 		if (player.getHealth() >= player.getMaxHealth() / 2) return 0D;
-		return player.getAttributeValue(PSTAttributes.CRIT_CHANCE_IF_WOUNDED.get()) - 1;
+		return PlayerHelper.getAttributeValue(player, PSTAttributes.CRIT_CHANCE_IF_WOUNDED) - 1;
 	}
 
 	private static double getLifePerHitIfWounded(ServerPlayer player) {
 		if (player.getHealth() >= player.getMaxHealth() / 2) return 0D;
-		return player.getAttributeValue(PSTAttributes.LIFE_PER_HIT_IF_WOUNDED.get());
+		return PlayerHelper.getAttributeValue(player, PSTAttributes.LIFE_PER_HIT_IF_WOUNDED);
 	}
 
 	private static double getMaximumLifePerArrowInQuiver(ServerPlayer player) {
-		Optional<SlotResult> quiverCurio = CuriosApi.getCuriosHelper().findFirstCurio(player, ItemHelper::isQuiver);
-		if (!quiverCurio.isPresent()) return 0D;
-		double lifeBonus = player.getAttributeValue(PSTAttributes.MAXIMUM_LIFE_PER_ARROW_IN_QUIVER.get());
+		CuriosIndex curios = PlayerHelper.getCuriosIndex(player);
+		if (!curios.hasQuiver()) return 0D;
+		double lifeBonus = PlayerHelper.getAttributeValue(player, PSTAttributes.MAXIMUM_LIFE_PER_ARROW_IN_QUIVER);
 		if (lifeBonus == 0) return 0D;
-		ItemStack quiver = quiverCurio.map(SlotResult::stack).orElse(ItemStack.EMPTY);
+		ItemStack quiver = curios.getQuiver();
 		return QuiverItem.getArrowsCount(quiver) * lifeBonus;
 	}
 
 	private static double getLuckWhileFishing(ServerPlayer player) {
 		if (player.fishing == null) return 0D;
-		return player.getAttributeValue(PSTAttributes.LUCK_WHILE_FISHING.get());
+		return PlayerHelper.getAttributeValue(player, PSTAttributes.LUCK_WHILE_FISHING);
 	}
 
 	@SubscribeEvent
 	public static void setCraftedArmorBonuses(ItemCraftedEvent event) {
 		ItemStack stack = event.getCrafting();
 		if (!ItemHelper.isArmor(stack)) return;
-		double defenceBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_ARMOR_DEFENCE.get()) - 1;
+		double defenceBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_ARMOR_DEFENCE) - 1;
 		if (defenceBonus > 0) {
 			ItemHelper.setBonus(stack, ItemHelper.DEFENCE, defenceBonus);
 		}
-		double lifeBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_ARMOR_MAXIMUM_LIFE.get());
+		double lifeBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_ARMOR_MAXIMUM_LIFE);
 		if (lifeBonus > 0) {
 			ItemHelper.setBonus(stack, ItemHelper.MAXIMUM_LIFE, lifeBonus);
 		}
-		double toughnessBonus = event.getEntity().getAttributeValue(PSTAttributes.CHANCE_TO_CRAFT_TOUGHER_ARMOR.get()) - 1;
+		double toughnessBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CHANCE_TO_CRAFT_TOUGHER_ARMOR) - 1;
 		if (toughnessBonus > 0) {
 			double toughness = Math.floor(toughnessBonus);
 			toughnessBonus -= toughness;
 			if (event.getEntity().getRandom().nextFloat() < toughnessBonus) toughness++;
 			ItemHelper.setBonus(stack, ItemHelper.TOUGHNESS, toughness);
 		}
-		double evasionBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_ARMOR_EVASION.get()) - 1;
+		double evasionBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_ARMOR_EVASION) - 1;
 		if (evasionBonus > 0) {
 			ItemHelper.setBonus(stack, ItemHelper.EVASION, evasionBonus);
 		}
-		double stealthBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_ARMOR_STEALTH.get()) - 1;
+		double stealthBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_ARMOR_STEALTH) - 1;
 		if (ItemHelper.isBoots(stack)) {
-			stealthBonus += event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_BOOTS_STEALTH.get()) - 1;
+			stealthBonus += PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_BOOTS_STEALTH) - 1;
 		}
 		if (stealthBonus > 0) {
 			ItemHelper.setBonus(stack, ItemHelper.STEALTH, stealthBonus);
 		}
 		if (ItemHelper.isHelmet(stack)) {
-			double helmetSockets = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_HELMETS_SOCKETS.get());
+			double helmetSockets = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_HELMETS_SOCKETS);
 			if (helmetSockets > 0) {
 				ItemHelper.setBonus(stack, ItemHelper.ADDITIONAL_SOCKETS, 1);
 			}
 		}
 		if (ItemHelper.isBoots(stack)) {
-			double bootsSockets = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_BOOTS_SOCKETS.get());
+			double bootsSockets = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_BOOTS_SOCKETS);
 			if (bootsSockets > 0) {
 				ItemHelper.setBonus(stack, ItemHelper.ADDITIONAL_SOCKETS, 1);
 			}
-			double bootsMovementSpeed = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_BOOTS_MOVEMENT_SPEED.get()) - 1;
+			double bootsMovementSpeed = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_BOOTS_MOVEMENT_SPEED) - 1;
 			if (bootsMovementSpeed > 0) {
 				ItemHelper.setBonus(stack, ItemHelper.MOVEMENT_SPEED, bootsMovementSpeed);
 			}
@@ -718,7 +714,7 @@ public class AttributeBonusHandler {
 	public static void setCraftedRingsBonuses(ItemCraftedEvent event) {
 		ItemStack stack = event.getCrafting();
 		if (!ItemHelper.isRing(stack)) return;
-		double critDamageBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_RINGS_CRITICAL_DAMAGE.get()) - 1;
+		double critDamageBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_RINGS_CRITICAL_DAMAGE) - 1;
 		if (critDamageBonus > 0) ItemHelper.setBonus(stack, ItemHelper.CRIT_DAMAGE, critDamageBonus);
 	}
 
@@ -726,7 +722,7 @@ public class AttributeBonusHandler {
 	public static void setCraftedNecklacesBonuses(ItemCraftedEvent event) {
 		ItemStack stack = event.getCrafting();
 		if (!ItemHelper.isNecklace(stack)) return;
-		double lifeBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_NECKLACES_MAXIMUM_LIFE.get());
+		double lifeBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_NECKLACES_MAXIMUM_LIFE);
 		if (lifeBonus > 0) ItemHelper.setBonus(stack, ItemHelper.MAXIMUM_LIFE, lifeBonus);
 	}
 
@@ -734,15 +730,15 @@ public class AttributeBonusHandler {
 	public static void setCraftedQuiverBonuses(ItemCraftedEvent event) {
 		ItemStack stack = event.getCrafting();
 		if (!ItemHelper.isQuiver(stack)) return;
-		double lifeBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_QUIVERS_MAXIMUM_LIFE.get());
+		double lifeBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_QUIVERS_MAXIMUM_LIFE);
 		if (lifeBonus > 0) ItemHelper.setBonus(stack, ItemHelper.MAXIMUM_LIFE, lifeBonus);
-		double capacityBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_QUIVERS_CAPACITY.get()) - 1;
+		double capacityBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_QUIVERS_CAPACITY) - 1;
 		if (capacityBonus > 0) ItemHelper.setBonus(stack, ItemHelper.CAPACITY, capacityBonus);
-		double igniteChanceBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_QUIVERS_CHANCE_TO_IGNITE.get()) - 1;
+		double igniteChanceBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_QUIVERS_CHANCE_TO_IGNITE) - 1;
 		if (igniteChanceBonus > 0) ItemHelper.setBonus(stack, ItemHelper.IGNITE_CHANCE, igniteChanceBonus);
-		double damageAgainstBurningBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_QUIVERS_DAMAGE_AGAINST_BURNING.get()) - 1;
+		double damageAgainstBurningBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_QUIVERS_DAMAGE_AGAINST_BURNING) - 1;
 		if (damageAgainstBurningBonus > 0) ItemHelper.setBonus(stack, ItemHelper.DAMAGE_AGAINST_BURNING, damageAgainstBurningBonus);
-		double chanceToRetrieveArrows = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_QUIVERS_CHANCE_TO_RETRIEVE_ARROWS.get()) - 1;
+		double chanceToRetrieveArrows = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_QUIVERS_CHANCE_TO_RETRIEVE_ARROWS) - 1;
 		if (chanceToRetrieveArrows > 0) ItemHelper.setBonus(stack, ItemHelper.CHANCE_TO_RETRIEVE_ARROWS, chanceToRetrieveArrows);
 	}
 
@@ -779,11 +775,11 @@ public class AttributeBonusHandler {
 	public static void setCraftedShieldBonuses(ItemCraftedEvent event) {
 		ItemStack stack = event.getCrafting();
 		if (!ItemHelper.isShield(stack)) return;
-		double armorBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_SHIELDS_ARMOR.get());
+		double armorBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_SHIELDS_ARMOR);
 		if (armorBonus > 0) ItemHelper.setBonus(stack, ItemHelper.DEFENCE, armorBonus);
-		double lifeBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_SHIELDS_MAXIMUM_LIFE.get());
+		double lifeBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_SHIELDS_MAXIMUM_LIFE);
 		if (lifeBonus > 0) ItemHelper.setBonus(stack, ItemHelper.MAXIMUM_LIFE, lifeBonus);
-		double blockBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_SHIELDS_BLOCK_CHANCE.get()) - 1;
+		double blockBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_SHIELDS_BLOCK_CHANCE) - 1;
 		if (blockBonus > 0) ItemHelper.setBonus(stack, ItemHelper.BLOCK_CHANCE, blockBonus);
 	}
 
@@ -815,29 +811,29 @@ public class AttributeBonusHandler {
 	public static void setCraftedWeaponBonuses(ItemCraftedEvent event) {
 		ItemStack stack = event.getCrafting();
 		if (!ItemHelper.isWeapon(stack)) return;
-		double igniteChanceBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_WEAPON_CHANCE_TO_IGNITE.get()) - 1;
+		double igniteChanceBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_WEAPON_CHANCE_TO_IGNITE) - 1;
 		if (igniteChanceBonus > 0) ItemHelper.setBonus(stack, ItemHelper.IGNITE_CHANCE, igniteChanceBonus);
-		double damageAgainstBurningBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_WEAPON_DAMAGE_AGAINST_BURNING.get()) - 1;
+		double damageAgainstBurningBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_WEAPON_DAMAGE_AGAINST_BURNING) - 1;
 		if (damageAgainstBurningBonus > 0) ItemHelper.setBonus(stack, ItemHelper.DAMAGE_AGAINST_BURNING, damageAgainstBurningBonus);
-		double lifePerHitBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_WEAPON_LIFE_PER_HIT.get());
+		double lifePerHitBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_WEAPON_LIFE_PER_HIT);
 		if (lifePerHitBonus > 0) ItemHelper.setBonus(stack, ItemHelper.LIFE_PER_HIT, lifePerHitBonus);
-		double doubleLootBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_WEAPON_DOUBLE_LOOT_CHANCE.get()) - 1;
+		double doubleLootBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_WEAPON_DOUBLE_LOOT_CHANCE) - 1;
 		if (doubleLootBonus > 0) ItemHelper.setBonus(stack, ItemHelper.DOUBLE_LOOT, doubleLootBonus);
 		if (ItemHelper.isRangedWeapon(stack)) {
-			double attackSpeedBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_RANGED_WEAPON_ATTACK_SPEED.get()) - 1;
-			attackSpeedBonus += event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_WEAPON_ATTACK_SPEED.get()) - 1;
+			double attackSpeedBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_RANGED_WEAPON_ATTACK_SPEED) - 1;
+			attackSpeedBonus += PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_WEAPON_ATTACK_SPEED) - 1;
 			if (attackSpeedBonus > 0) ItemHelper.setBonus(stack, ItemHelper.ATTACK_SPEED, attackSpeedBonus);
-			int additionalSockets = (int) event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_RANGED_WEAPON_SOCKETS.get());
+			int additionalSockets = (int) PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_RANGED_WEAPON_SOCKETS);
 			if (additionalSockets > 0) ItemHelper.setBonus(stack, ItemHelper.ADDITIONAL_SOCKETS, 1);
 		}
 		if (ItemHelper.isMeleeWeapon(stack)) {
-			double damageBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_MELEE_WEAPON_DAMAGE_BONUS.get());
+			double damageBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_MELEE_WEAPON_DAMAGE_BONUS);
 			if (damageBonus > 0) ItemHelper.setBonus(stack, ItemHelper.DAMAGE, damageBonus);
-			double attackSpeedBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_MELEE_WEAPON_ATTACK_SPEED.get()) - 1;
-			attackSpeedBonus += event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_WEAPON_ATTACK_SPEED.get()) - 1;
+			double attackSpeedBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_MELEE_WEAPON_ATTACK_SPEED) - 1;
+			attackSpeedBonus += PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_WEAPON_ATTACK_SPEED) - 1;
 			if (attackSpeedBonus > 0) ItemHelper.setBonus(stack, ItemHelper.ATTACK_SPEED, attackSpeedBonus);
-			double critChanceBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_MELEE_WEAPON_CRIT_CHANCE.get()) - 1;
-			if (ItemHelper.isAxe(stack)) critChanceBonus += event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_AXES_CRIT_CHANCE.get()) - 1;
+			double critChanceBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_MELEE_WEAPON_CRIT_CHANCE) - 1;
+			if (ItemHelper.isAxe(stack)) critChanceBonus += PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_AXES_CRIT_CHANCE) - 1;
 			if (critChanceBonus > 0) ItemHelper.setBonus(stack, ItemHelper.CRIT_CHANCE, critChanceBonus);
 		}
 	}
@@ -866,8 +862,7 @@ public class AttributeBonusHandler {
 			}
 		}
 		if (ItemHelper.isRangedWeapon(stack)) {
-			// Item.BASE_ATTACK_SPEED_UUID
-			UUID modifierId = (UUID) ObfuscationReflectionHelper.getPrivateValue(Item.class, null, "f_41375_");
+			UUID modifierId = ItemAccessor.getBaseAttackSpeedId();
 			// Base attack speed is 4 attacks per second, we need to reduce it to 1
 			float modifierAmount = -3F;
 			if (ItemHelper.hasBonus(stack, ItemHelper.ATTACK_SPEED)) {
@@ -896,26 +891,23 @@ public class AttributeBonusHandler {
 	@SubscribeEvent
 	public static void applyBreakSpeedBonus(PlayerEvent.BreakSpeed event) {
 		if (ItemHelper.isPickaxe(event.getEntity().getMainHandItem())) {
-			float miningSpeedMultiplier = (float) event.getEntity().getAttributeValue(PSTAttributes.MINING_SPEED.get());
+			float miningSpeedMultiplier = (float) PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.MINING_SPEED);
 			event.setNewSpeed(event.getOriginalSpeed() * miningSpeedMultiplier);
 		}
 	}
 
-	@SubscribeEvent
-	public static void applyLifeRegenerationBonus(PlayerTickEvent event) {
-		if (event.phase == Phase.END || event.player.level.isClientSide) return;
-		if (event.player.getFoodData().getFoodLevel() == 0) return;
-		float lifeRegeneration = (float) event.player.getAttributeValue(PSTAttributes.LIFE_REGENERATION.get());
-		if (event.player.getHealth() != event.player.getMaxHealth() && event.player.tickCount % 20 == 0) {
-			event.player.heal(lifeRegeneration);
-			event.player.getFoodData().addExhaustion(lifeRegeneration / 5);
-		}
+	public static void applyLifeRegenerationBonus(ServerPlayer player) {
+		if (player.getFoodData().getFoodLevel() == 0) return;
+		if (player.getHealth() == player.getMaxHealth()) return;
+		float lifeRegeneration = (float) PlayerHelper.getAttributeValue(player, PSTAttributes.LIFE_REGENERATION);
+		player.heal(lifeRegeneration);
+		player.getFoodData().addExhaustion(lifeRegeneration / 5);
 	}
 
 	@SubscribeEvent
 	public static void applyEvasionBonus(LivingAttackEvent event) {
 		if (!(event.getEntity() instanceof Player player)) return;
-		float evasion = (float) player.getAttributeValue(PSTAttributes.EVASION.get()) - 1;
+		float evasion = (float) PlayerHelper.getAttributeValue(player, PSTAttributes.EVASION) - 1;
 		if (evasion == 0) return;
 		boolean canEvade = PlayerHelper.canEvadeDamage(event.getSource());
 		if (canEvade && player.getRandom().nextFloat() < evasion) {
@@ -929,24 +921,56 @@ public class AttributeBonusHandler {
 		// shoudln't multiply player's loot
 		if (event.getEntity() instanceof Player) return;
 		if (!(event.getSource().getEntity() instanceof Player player)) return;
-		double doubleLootChance = player.getAttributeValue(PSTAttributes.DOUBLE_LOOT_CHANCE.get()) - 1;
-		double tripleLootChance = player.getAttributeValue(PSTAttributes.TRIPLE_LOOT_CHANCE.get()) - 1;
-		if (player.getRandom().nextFloat() < doubleLootChance) {
-			List<ItemEntity> drops = getDrops(event);
-			event.getDrops().addAll(drops);
-		}
-		if (player.getRandom().nextFloat() < tripleLootChance) {
-			List<ItemEntity> drops = getDrops(event);
-			event.getDrops().addAll(drops);
-			event.getDrops().addAll(drops);
+		double doubleLootChance = PlayerHelper.getAttributeValue(player, PSTAttributes.DOUBLE_LOOT_CHANCE) - 1;
+		double tripleLootChance = PlayerHelper.getAttributeValue(player, PSTAttributes.TRIPLE_LOOT_CHANCE) - 1;
+		int multiplier = 1;
+		if (player.getRandom().nextFloat() < doubleLootChance) multiplier += 1;
+		if (player.getRandom().nextFloat() < tripleLootChance) multiplier += 2;
+		if (multiplier == 1) return;
+		multiplyDrops(event, multiplier);
+	}
+
+	/**
+	 * Grows dropped stacks instead of cloning their entities, and merges drops of the same item into
+	 * as few entities as possible. Equipped items aren't multiplied.
+	 */
+	protected static void multiplyDrops(LivingDropsEvent event, int multiplier) {
+		List<ItemEntity> drops = new ArrayList<ItemEntity>(event.getDrops());
+		if (event.getEntity() instanceof EquipmentContainer entity) drops.removeIf(entity::equipped);
+		List<ItemEntity> mergedDrops = new ArrayList<ItemEntity>();
+		for (ItemEntity drop : drops) {
+			ItemStack stack = drop.getItem().copy();
+			if (stack.isEmpty()) continue;
+			int count = mergeIntoDrops(mergedDrops, stack, stack.getCount() * multiplier);
+			if (count == 0) {
+				event.getDrops().remove(drop);
+				continue;
+			}
+			ItemEntity target = drop;
+			while (true) {
+				ItemStack part = stack.copy();
+				part.setCount(Math.min(count, stack.getMaxStackSize()));
+				target.setItem(part);
+				mergedDrops.add(target);
+				count -= part.getCount();
+				if (count == 0) break;
+				target = drop.copy();
+				event.getDrops().add(target);
+			}
 		}
 	}
 
-	protected static List<ItemEntity> getDrops(LivingDropsEvent event) {
-		List<ItemEntity> drops = new ArrayList<ItemEntity>();
-		event.getDrops().stream().map(ItemEntity::copy).forEach(drops::add);
-		if (event.getEntity() instanceof EquipmentContainer entity) drops.removeIf(entity::equipped);
-		return drops;
+	private static int mergeIntoDrops(List<ItemEntity> drops, ItemStack stack, int count) {
+		for (ItemEntity drop : drops) {
+			if (count == 0) break;
+			ItemStack dropStack = drop.getItem();
+			if (!ItemStack.isSameItemSameTags(dropStack, stack)) continue;
+			int added = Math.min(count, dropStack.getMaxStackSize() - dropStack.getCount());
+			if (added <= 0) continue;
+			dropStack.grow(added);
+			count -= added;
+		}
+		return count;
 	}
 
 	@SubscribeEvent
@@ -1036,7 +1060,7 @@ public class AttributeBonusHandler {
 		var player = (Player) event.getEntity();
 		var offhandItem = player.getOffhandItem();
 		if (!ItemHelper.isShield(offhandItem)) return;
-		var blockChance = player.getAttributeValue(PSTAttributes.BLOCK_CHANCE.get()) - 1;
+		var blockChance = PlayerHelper.getAttributeValue(player, PSTAttributes.BLOCK_CHANCE) - 1;
 		if (player.getRandom().nextFloat() >= blockChance) return;
 		var shieldBlockEvent = ForgeHooks.onShieldBlock(player, event.getSource(), event.getAmount());
 		if (shieldBlockEvent.isCanceled()) return;
@@ -1046,12 +1070,7 @@ public class AttributeBonusHandler {
 		if (event.getSource().isProjectile()) return;
 		var attacker = event.getSource().getDirectEntity();
 		if (attacker instanceof LivingEntity livingAttacker) {
-			var blockUsingShieldMethod = ObfuscationReflectionHelper.findMethod(LivingEntity.class, "m_6728_", LivingEntity.class);
-			try {
-				blockUsingShieldMethod.invoke(player, livingAttacker);
-			} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-				e.printStackTrace();
-			}
+			((LivingEntityAccessor) player).invokeBlockUsingShield(livingAttacker);
 		}
 	}
 
@@ -1059,42 +1078,12 @@ public class AttributeBonusHandler {
 	public static void applyLifeOnBlockBonus(ShieldBlockEvent event) {
 		if (!(event.getEntity() instanceof Player player)) return;
 		if (player.getFoodData().getFoodLevel() == 0) return;
-		float lifeOnBlock = (float) player.getAttributeValue(PSTAttributes.LIFE_ON_BLOCK.get());
+		float lifeOnBlock = (float) PlayerHelper.getAttributeValue(player, PSTAttributes.LIFE_ON_BLOCK);
 		if (lifeOnBlock == 0) return;
 		player.getFoodData().addExhaustion(lifeOnBlock / 5F);
 		player.heal(lifeOnBlock);
 	}
 
-	@SubscribeEvent
-	public static void applyPoisonedWeaponEffects(LivingHurtEvent event) {
-		var damageSource = event.getSource();
-		if (!(damageSource.getDirectEntity() instanceof Player)) return;
-		var player = (Player) damageSource.getDirectEntity();
-		var weapon = player.getMainHandItem();
-		if (!ItemHelper.hasPoisons(weapon)) return;
-		var poisons = ItemHelper.getPoisons(weapon);
-		var target = event.getEntity();
-		poisons.stream().map(MobEffectInstance::new).forEach(target::addEffect);
-	}
-
-	@SubscribeEvent
-	public static void applyPoisonedThrownTridentEffects(LivingHurtEvent event) {
-		var damageSource = event.getSource();
-		if (!(damageSource.getDirectEntity() instanceof ThrownTrident)) return;
-		var trident = (ThrownTrident) damageSource.getDirectEntity();
-		var getPickupItemMethod = ObfuscationReflectionHelper.findMethod(AbstractArrow.class, "m_7941_");
-		var weapon = (ItemStack) null;
-		try {
-			weapon = (ItemStack) getPickupItemMethod.invoke(trident);
-		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-			e.printStackTrace();
-		}
-		if (!ItemHelper.hasPoisons(weapon)) return;
-		var poisons = ItemHelper.getPoisons(weapon);
-		var target = event.getEntity();
-		poisons.stream().map(MobEffectInstance::new).forEach(target::addEffect);
-	}
-
 	@SubscribeEvent(priority = EventPriority.HIGH)
 	public static void addPoisonedWeaponTooltips(ItemTooltipEvent event) {
 		ItemStack weapon = event.getItemStack();
@@ -1104,62 +1093,25 @@ public class AttributeBonusHandler {
 		ItemHelper.getPoisons(weapon).stream().map(TooltipHelper::getEffectTooltip).forEach(event.getToolTip()::add);
 	}
 
-	@SubscribeEvent
-	public static void applyLifePerHitBonus(LivingHurtEvent event) {
-		Entity directAttacker = event.getSource().getDirectEntity();
-		Entity indirectAttacker = event.getSource().getEntity();
-		Player player = (Player) null;
-		if (directAttacker instanceof Player) {
-			player = (Player) directAttacker;
-		} else if (directAttacker instanceof AbstractArrow && indirectAttacker instanceof Player) {
-			player = (Player) indirectAttacker;
-		}
-		if (player == null) return;
-		if (player.getFoodData().getFoodLevel() == 0) return;
-		double lifePerHit = player.getAttributeValue(PSTAttributes.LIFE_PER_HIT.get());
-		if (directAttacker instanceof AbstractArrow) {
-			lifePerHit += player.getAttributeValue(PSTAttributes.LIFE_PER_PROJECTILE_HIT.get());
-		}
-		player.getFoodData().addExhaustion((float) (lifePerHit / 5));
-		player.heal((float) lifePerHit);
-	}
-
-	@SubscribeEvent
-	public static void applyChanceToRetrieveArrowsBonus(LivingHurtEvent event) {
-		if (!(event.getSource().getDirectEntity() instanceof AbstractArrow arrow)) return;
-		if (!(event.getSource().getEntity() instanceof Player player)) return;
-		double chance = player.getAttributeValue(PSTAttributes.CHANCE_TO_RETRIEVE_ARROWS.get()) - 1;
-		if (player.getRandom().nextFloat() >= chance) return;
-		LivingEntity target = event.getEntity();
-		CompoundTag targetData = target.getPersistentData();
-		ListTag stuckArrowsTag = targetData.getList("StuckArrows", new CompoundTag().getId());
-		stuckArrowsTag.add(getArrowStack(arrow).save(new CompoundTag()));
-		targetData.put("StuckArrows", stuckArrowsTag);
-	}
-
-	private static ItemStack getArrowStack(AbstractArrow arrow) {
-		try {
-			// AbstractArrow.getPickupItem
-			return (ItemStack) ObfuscationReflectionHelper.findMethod(AbstractArrow.class, "m_7941_").invoke(arrow);
-		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-			e.printStackTrace();
-		}
-		return ItemStack.EMPTY;
-	}
-
 	@SubscribeEvent
 	public static void retrieveArrows(LivingDeathEvent event) {
 		LivingEntity entity = event.getEntity();
-		ListTag stuckArrowsTag = entity.getPersistentData().getList("StuckArrows", new CompoundTag().getId());
-		if (stuckArrowsTag.isEmpty()) return;
-		stuckArrowsTag.stream().map(CompoundTag.class::cast).map(ItemStack::of).forEach(entity::spawnAtLocation);
+		StuckArrowsProvider.get(entity).ifPresent(stuckArrows -> {
+			// entities saved before stuck arrows became a capability
+			if (entity.getPersistentData().contains("StuckArrows")) {
+				ListTag legacyArrowsTag = entity.getPersistentData().getList("StuckArrows", Tag.TAG_COMPOUND);
+				legacyArrowsTag.stream().map(CompoundTag.class::cast).map(ItemStack::of).forEach(stuckArrows::addArrow);
+				entity.getPersistentData().remove("StuckArrows");
+			}
+			stuckArrows.takeArrows().forEach(entity::spawnAtLocation);
+		});
 	}
 
 	@SubscribeEvent
 	public static void setCraftedEquipmentBonuses(ItemCraftedEvent event) {
 		ItemStack craftedStack = event.getCrafting();
 		if (!ItemHelper.isEquipment(craftedStack)) return;
-		double durabilityBonus = event.getEntity().getAttributeValue(PSTAttributes.CRAFTED_EQUIPMENT_DURABILITY.get()) - 1;
+		double durabilityBonus = PlayerHelper.getAttributeValue(event.getEntity(), PSTAttributes.CRAFTED_EQUIPMENT_DURABILITY) - 1;
 		if (durabilityBonus == 0) return;
 		ItemHelper.setBonus(craftedStack, ItemHelper.DURABILITY, durabilityBonus);
 	}
@@ -1183,38 +1135,37 @@ public class AttributeBonusHandler {
 	@SubscribeEvent
 	public static void applyIncomingHealingBonus(LivingHealEvent event) {
 		if (!(event.getEntity() instanceof Player player)) return;
-		float multiplier = (float) (player.getAttributeValue(PSTAttributes.INCOMING_HEALING.get()));
+		float multiplier = (float) (PlayerHelper.getAttributeValue(player, PSTAttributes.INCOMING_HEALING));
 		event.setAmount(event.getAmount() * multiplier);
 	}
 
-	@SubscribeEvent
-	public static void applyExperiencePerHourBonus(PlayerTickEvent event) {
-		if (event.player.level.isClientSide) return;
-		float bonus = (float) (event.player.getAttributeValue(PSTAttributes.EXPERIENCE_PER_HOUR.get()));
+	public static void applyExperiencePerHourBonus(ServerPlayer player) {
+		float bonus = (float) (PlayerHelper.getAttributeValue(player, PSTAttributes.EXPERIENCE_PER_HOUR));
 		int frequency = Math.max((int) (1000 / bonus), 1);
-		if (event.player.tickCount % frequency == 0) {
-			event.player.giveExperiencePoints(1);
-		}
+		// grants the experience for every multiple of frequency since the previous run
+		int tick = player.tickCount;
+		int experience = Math.floorDiv(tick, frequency) - Math.floorDiv(tick - EXPERIENCE_BONUS_INTERVAL, frequency);
+		if (experience > 0) player.giveExperiencePoints(experience);
 	}
 
 	@SubscribeEvent
 	public static void applyExperienceFromMobsBonus(LivingExperienceDropEvent event) {
 		if (event.getAttackingPlayer() == null) return;
-		float bonus = (float) (event.getAttackingPlayer().getAttributeValue(PSTAttributes.EXPERIENCE_FROM_MOBS.get()));
+		float bonus = (float) (PlayerHelper.getAttributeValue(event.getAttackingPlayer(), PSTAttributes.EXPERIENCE_FROM_MOBS));
 		event.setDroppedExperience((int) (event.getDroppedExperience() * bonus));
 	}
 
 	@SubscribeEvent
 	public static void applyExperienceFromOreBonus(BreakEvent event) {
 		if (!event.getState().is(Tags.Blocks.ORES)) return;
-		float bonus = (float) (event.getPlayer().getAttributeValue(PSTAttributes.EXPERIENCE_FROM_ORE.get()));
+		float bonus = (float) (PlayerHelper.getAttributeValue(event.getPlayer(), PSTAttributes.EXPERIENCE_FROM_ORE));
 		event.setExpToDrop((int) (event.getExpToDrop() * bonus));
 	}
 
 	@SubscribeEvent
 	public static void applyStealthBonus(LivingChangeTargetEvent event) {
 		if (!(event.getNewTarget() instanceof Player player)) return;
-		double stealth = player.getAttributeValue(PSTAttributes.STEALTH.get()) - 1;
+		double stealth = PlayerHelper.getAttributeValue(player, PSTAttributes.STEALTH) - 1;
 		if (stealth == 0) return;
 		if (event.getEntity().distanceTo(player) > event.getEntity().getAttributeValue(Attributes.FOLLOW_RANGE) * (1 - stealth)) {
 			event.setCanceled(true);
@@ -1224,7 +1175,7 @@ public class AttributeBonusHandler {
 	@SubscribeEvent
 	public static void applyFishingExperienceBonus(ItemFishedEvent event) {
 		Player player = event.getEntity();
-		double expBonus = player.getAttributeValue(PSTAttributes.EXPERIENCE_FROM_FISHING.get()) - 1;
+		double expBonus = PlayerHelper.getAttributeValue(player, PSTAttributes.EXPERIENCE_FROM_FISHING) - 1;
 		if (expBonus == 0) return;
 		int exp = (int) ((player.getRandom().nextInt(6) + 1) * expBonus);
 		if (exp == 0) return;
@@ -1232,23 +1183,6 @@ public class AttributeBonusHandler {
 		player.level.addFreshEntity(expOrb);
 	}
 
-	@SubscribeEvent
-	public static void applyChanceToIgnite(LivingHurtEvent event) {
-		if (!(event.getSource().getEntity() instanceof Player player)) return;
-		double chance = player.getAttributeValue(PSTAttributes.CHANCE_TO_IGNITE.get()) - 1;
-		if (player.getRandom().nextFloat() >= chance) return;
-		event.getEntity().setSecondsOnFire(5);
-	}
-
-	@SubscribeEvent
-	public static void applyChanceToExplodeEnemy(LivingHurtEvent event) {
-		if (!(event.getSource().getEntity() instanceof Player player)) return;
-		double chance = player.getAttributeValue(PSTAttributes.CHANCE_TO_EXPLODE_ENEMY.get()) - 1;
-		if (player.getRandom().nextFloat() >= chance) return;
-		LivingEntity target = event.getEntity();
-		target.level.explode(player, target.getX(), target.getEyeY(), target.getZ(), 2F, BlockInteraction.NONE);
-	}
-
 	@SubscribeEvent
 	public static void applyGrindstoneExpPenalty(GrindstoneEvent.OnTakeItem event) {
 		event.setXp((int) (event.getXp() * Config.grindstone_exp_multiplier));
@@ -1256,7 +1190,7 @@ public class AttributeBonusHandler {
 
 	@SubscribeEvent
 	public static void applyRepairEfficiencyBonus(AnvilUpdateEvent event) {
-		double repairEfficiency = event.getPlayer().getAttributeValue(PSTAttributes.EQUIPMENT_REPAIR_EFFICIENCY.get()) - 1;
+		double repairEfficiency = PlayerHelper.getAttributeValue(event.getPlayer(), PSTAttributes.EQUIPMENT_REPAIR_EFFICIENCY) - 1;
 		if (repairEfficiency == 0) return;
 		ItemStack stack = event.getLeft();
 		if (!stack.isDamageableItem() || !stack.isDamaged()) return;
@@ -1351,12 +1285,10 @@ public class AttributeBonusHandler {
 			if (modifierMap.isEmpty()) return;
 			Map<Attribute, AttributeModifier> baseModifs = new IdentityHashMap<>();
 			modifierMap.forEach((attr, modif) -> {
-				// Item.BASE_ATTACK_DAMAGE_UUID
-				if (modif.getId().equals(UUID.fromString("CB3F55D3-645C-4F38-A497-9C13A33DB5CF"))) {
+				if (modif.getId().equals(ItemAccessor.getBaseAttackDamageId())) {
 					baseModifs.put(attr, new AttributeModifier(modif.getId(), modif.getName(), modif.getAmount() + 1, modif.getOperation()));
 				}
-				// Item.BASE_ATTACK_SPEED_UUID
-				else if (modif.getId().equals(UUID.fromString("FA233E1C-4180-4865-B01B-BCCE9785ACA3"))) {
+				else if (modif.getId().equals(ItemAccessor.getBaseAttackSpeedId())) {
 					baseModifs.put(attr, new AttributeModifier(modif.getId(), modif.getName(), modif.getAmount() + 4, modif.getOperation()));
 				}
 			});
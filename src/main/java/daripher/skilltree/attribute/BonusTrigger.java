@@ -0,0 +1,11 @@
+package daripher.skilltree.attribute;
+
+public enum BonusTrigger {
+	EQUIPMENT, CURIOS, EFFECTS, FOOD, HEALTH, FISHING;
+
+	public static final int ALL = (1 << values().length) - 1;
+
+	public int mask() {
+		return 1 << ordinal();
+	}
+}
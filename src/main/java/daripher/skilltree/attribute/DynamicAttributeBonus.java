@@ -0,0 +1,68 @@
+package daripher.skilltree.attribute;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+import daripher.skilltree.api.TrackedAttributeMap;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier.Operation;
+
+public class DynamicAttributeBonus {
+	private final Supplier<Attribute> attribute;
+	private final Operation operation;
+	private final UUID modifierId;
+	private final List<Supplier<Attribute>> scalingAttributes;
+	private final ToDoubleFunction<ServerPlayer> function;
+	private final int triggers;
+
+	public DynamicAttributeBonus(Supplier<Attribute> attribute, Operation operation, String modifierId, List<Supplier<Attribute>> scalingAttributes,
+			ToDoubleFunction<ServerPlayer> function, BonusTrigger... triggers) {
+		this.attribute = attribute;
+		this.operation = operation;
+		this.modifierId = UUID.fromString(modifierId);
+		this.scalingAttributes = scalingAttributes;
+		this.function = function;
+		int mask = 0;
+		for (BonusTrigger trigger : triggers) mask |= trigger.mask();
+		this.triggers = mask;
+	}
+
+	public DynamicAttributeBonus(Supplier<Attribute> attribute, Operation operation, String modifierId, Supplier<Attribute> scalingAttribute,
+			ToDoubleFunction<ServerPlayer> function, BonusTrigger... triggers) {
+		this(attribute, operation, modifierId, List.of(scalingAttribute), function, triggers);
+	}
+
+	public Attribute getAttribute() {
+		return attribute.get();
+	}
+
+	public Operation getOperation() {
+		return operation;
+	}
+
+	public UUID getModifierId() {
+		return modifierId;
+	}
+
+	public double calculate(ServerPlayer player) {
+		return function.applyAsDouble(player);
+	}
+
+	public boolean dependsOn(int triggers) {
+		return (this.triggers & triggers) != 0;
+	}
+
+	/**
+	 * @return stamp that changes whenever one of the attributes this bonus scales with is modified
+	 */
+	public int getAttributeStamp(TrackedAttributeMap attributes) {
+		int stamp = 0;
+		for (Supplier<Attribute> scalingAttribute : scalingAttributes) {
+			stamp += attributes.getModificationCount(scalingAttribute.get());
+		}
+		return stamp;
+	}
+}
@@ -0,0 +1,52 @@
+package daripher.skilltree.attribute;
+
+import java.util.Arrays;
+
+import net.minecraft.world.entity.player.Player;
+
+public class DynamicBonusState {
+	// stamps of the attributes each dynamic bonus scales with, by the index of the bonus
+	private final int[] attributeStamps = new int[AttributeBonusHandler.getDynamicBonusesCount()];
+	private int dirtyTriggers = BonusTrigger.ALL;
+	private int foodLevel = -1;
+	private boolean wounded;
+	private boolean fishing;
+
+	public DynamicBonusState() {
+		Arrays.fill(attributeStamps, -1);
+	}
+
+	public void markDirty(BonusTrigger trigger) {
+		dirtyTriggers |= trigger.mask();
+	}
+
+	public int pollTriggers(Player player) {
+		int foodLevel = player.getFoodData().getFoodLevel();
+		if (foodLevel != this.foodLevel) {
+			this.foodLevel = foodLevel;
+			markDirty(BonusTrigger.FOOD);
+		}
+		boolean wounded = player.getHealth() < player.getMaxHealth() / 2;
+		if (wounded != this.wounded) {
+			this.wounded = wounded;
+			markDirty(BonusTrigger.HEALTH);
+		}
+		boolean fishing = player.fishing != null;
+		if (fishing != this.fishing) {
+			this.fishing = fishing;
+			markDirty(BonusTrigger.FISHING);
+		}
+		int triggers = dirtyTriggers;
+		dirtyTriggers = 0;
+		return triggers;
+	}
+
+	/**
+	 * @return true if the stamp changed since the last update of this bonus
+	 */
+	public boolean updateAttributeStamp(int bonus, int stamp) {
+		if (attributeStamps[bonus] == stamp) return false;
+		attributeStamps[bonus] = stamp;
+		return true;
+	}
+}
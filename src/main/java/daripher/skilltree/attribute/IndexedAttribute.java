@@ -0,0 +1,16 @@
+package daripher.skilltree.attribute;
+
+import net.minecraft.world.entity.ai.attributes.RangedAttribute;
+
+public class IndexedAttribute extends RangedAttribute {
+	private final int index;
+
+	public IndexedAttribute(String descriptionId, double defaultValue, double minValue, double maxValue, int index) {
+		super(descriptionId, defaultValue, minValue, maxValue);
+		this.index = index;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+}
@@ -0,0 +1,21 @@
+package daripher.skilltree.capability.arrows;
+
+import java.util.List;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.common.capabilities.AutoRegisterCapability;
+import net.minecraftforge.common.util.INBTSerializable;
+
+@AutoRegisterCapability
+public interface IStuckArrows extends INBTSerializable<CompoundTag> {
+	/**
+	 * Adds an arrow to the count of its variant. Arrows over the limit are ignored.
+	 */
+	void addArrow(ItemStack arrow);
+
+	/**
+	 * Returns stuck arrows merged into stacks and forgets them.
+	 */
+	List<ItemStack> takeArrows();
+}
@@ -0,0 +1,84 @@
+package daripher.skilltree.capability.arrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.ItemStack;
+
+public class StuckArrows implements IStuckArrows {
+	public static final int MAX_ARROWS = 256;
+	private final List<ItemStack> variants = new ArrayList<>();
+	private final IntList counts = new IntArrayList();
+	private int total;
+
+	@Override
+	public void addArrow(ItemStack arrow) {
+		if (arrow.isEmpty() || total >= MAX_ARROWS) return;
+		int count = Math.min(arrow.getCount(), MAX_ARROWS - total);
+		total += count;
+		for (int i = 0; i < variants.size(); i++) {
+			if (ItemStack.isSameItemSameTags(variants.get(i), arrow)) {
+				counts.set(i, counts.getInt(i) + count);
+				return;
+			}
+		}
+		ItemStack variant = arrow.copy();
+		variant.setCount(1);
+		variants.add(variant);
+		counts.add(count);
+	}
+
+	@Override
+	public List<ItemStack> takeArrows() {
+		List<ItemStack> arrows = new ArrayList<>();
+		for (int i = 0; i < variants.size(); i++) {
+			ItemStack variant = variants.get(i);
+			int count = counts.getInt(i);
+			while (count > 0) {
+				ItemStack stack = variant.copy();
+				stack.setCount(Math.min(count, variant.getMaxStackSize()));
+				count -= stack.getCount();
+				arrows.add(stack);
+			}
+		}
+		variants.clear();
+		counts.clear();
+		total = 0;
+		return arrows;
+	}
+
+	@Override
+	public CompoundTag serializeNBT() {
+		CompoundTag tag = new CompoundTag();
+		// most entities never have arrows stuck in them, so they don't save an empty list
+		if (variants.isEmpty()) return tag;
+		ListTag arrowsTag = new ListTag();
+		for (int i = 0; i < variants.size(); i++) {
+			CompoundTag arrowTag = new CompoundTag();
+			arrowTag.put("Arrow", variants.get(i).save(new CompoundTag()));
+			arrowTag.putInt("Count", counts.getInt(i));
+			arrowsTag.add(arrowTag);
+		}
+		tag.put("Arrows", arrowsTag);
+		return tag;
+	}
+
+	@Override
+	public void deserializeNBT(CompoundTag tag) {
+		variants.clear();
+		counts.clear();
+		total = 0;
+		ListTag arrowsTag = tag.getList("Arrows", Tag.TAG_COMPOUND);
+		for (int i = 0; i < arrowsTag.size(); i++) {
+			CompoundTag arrowTag = arrowsTag.getCompound(i);
+			ItemStack arrow = ItemStack.of(arrowTag.getCompound("Arrow"));
+			arrow.setCount(arrowTag.getInt("Count"));
+			addArrow(arrow);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package daripher.skilltree.capability.arrows;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import daripher.skilltree.SkillTreeMod;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.CapabilityToken;
+import net.minecraftforge.common.capabilities.ICapabilitySerializable;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+
+@EventBusSubscriber(modid = SkillTreeMod.MOD_ID)
+public class StuckArrowsProvider implements ICapabilitySerializable<CompoundTag> {
+	private static final ResourceLocation CAPABILITY_ID = new ResourceLocation(SkillTreeMod.MOD_ID, "stuck_arrows");
+	private static final Capability<IStuckArrows> CAPABILITY = CapabilityManager.get(new CapabilityToken<>() {
+	});
+	private final LazyOptional<IStuckArrows> optionalCapability = LazyOptional.of(StuckArrows::new);
+
+	@SubscribeEvent
+	public static void attachCapability(AttachCapabilitiesEvent<Entity> event) {
+		if (!(event.getObject() instanceof LivingEntity entity)) return;
+		if (entity.level.isClientSide) return;
+		event.addCapability(CAPABILITY_ID, new StuckArrowsProvider());
+	}
+
+	@Override
+	public <T> @NotNull LazyOptional<T> getCapability(@NotNull Capability<T> cap, @Nullable Direction side) {
+		return cap == CAPABILITY ? optionalCapability.cast() : LazyOptional.empty();
+	}
+
+	@Override
+	public CompoundTag serializeNBT() {
+		return optionalCapability.orElseThrow(NullPointerException::new).serializeNBT();
+	}
+
+	@Override
+	public void deserializeNBT(CompoundTag compoundTag) {
+		optionalCapability.orElseThrow(NullPointerException::new).deserializeNBT(compoundTag);
+	}
+
+	public static LazyOptional<IStuckArrows> get(LivingEntity entity) {
+		return entity.getCapability(CAPABILITY);
+	}
+}
@@ -1,5 +1,6 @@
 package daripher.skilltree.capability.skill;
 
+import java.util.Collection;
 import java.util.List;
 
 import daripher.skilltree.skill.PassiveSkill;
@@ -13,10 +14,25 @@ import net.minecraftforge.common.util.INBTSerializable;
 public interface IPlayerSkills extends INBTSerializable<CompoundTag> {
 	List<PassiveSkill> getPlayerSkills();
 
-	boolean learnSkill(ServerPlayer player, PassiveSkill passiveSkill);
+	void setPlayerSkills(Collection<PassiveSkill> skills);
+
+	/**
+	 * Learns all skills in the given order, or none of them if any skill can't be learned.
+	 */
+	boolean learnSkills(ServerPlayer player, List<PassiveSkill> skills);
+
+	void restoreSkillBonuses(ServerPlayer player);
+
+	/**
+	 * Resolves learned skills by id again after the skills were reloaded. Skills that no longer exist
+	 * are forgotten and their points are refunded.
+	 */
+	void reloadSkills(ServerPlayer player);
 
 	boolean hasSkill(ResourceLocation skillId);
 
+	boolean hasSkill(PassiveSkill skill);
+
 	int getSkillPoints();
 
 	void setSkillPoints(int skillPoints);
@@ -28,4 +44,10 @@ public interface IPlayerSkills extends INBTSerializable<CompoundTag> {
 	void setTreeReset(boolean reset);
 
 	void resetTree(ServerPlayer player);
+
+	/**
+	 * @return checksum of learned skills and skill points, used to detect desync between server and
+	 *         client
+	 */
+	int getChecksum();
 }
@@ -1,9 +1,17 @@
 package daripher.skilltree.capability.skill;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
+import daripher.skilltree.client.SkillTreeClientData;
+import daripher.skilltree.config.Config;
 import daripher.skilltree.skill.PassiveSkill;
 import daripher.skilltree.skill.SkillsReloader;
 import net.minecraft.nbt.CompoundTag;
@@ -14,13 +22,27 @@ import net.minecraft.server.level.ServerPlayer;
 
 public class PlayerSkills implements IPlayerSkills {
 	private static final UUID TREE_VERSION = UUID.fromString("fa44bd65-5e8c-445c-b7f4-4c0b26c2cef1");
-	private List<PassiveSkill> skills = new ArrayList<>();
+	private final SkillModifiersAggregator modifiers = new SkillModifiersAggregator();
+	private final List<PassiveSkill> skills = new ArrayList<>();
+	private final List<PassiveSkill> skillsView = Collections.unmodifiableList(skills);
+	private final BitSet learnedSkills = new BitSet();
+	private final Function<ResourceLocation, PassiveSkill> skillLookup;
 	private int skillPoints;
 	private boolean treeReset;
 
+	public PlayerSkills(boolean clientSide) {
+		skillLookup = clientSide ? SkillTreeClientData::getSkill : SkillsReloader::getSkillById;
+	}
+
 	@Override
 	public List<PassiveSkill> getPlayerSkills() {
-		return skills;
+		return skillsView;
+	}
+
+	@Override
+	public void setPlayerSkills(Collection<PassiveSkill> skills) {
+		clearSkills();
+		skills.forEach(this::addSkill);
 	}
 
 	@Override
@@ -39,16 +61,82 @@ public class PlayerSkills implements IPlayerSkills {
 	}
 
 	@Override
-	public boolean learnSkill(ServerPlayer player, PassiveSkill passiveSkill) {
-		if (skillPoints == 0) return false;
-		if (skills.contains(passiveSkill)) return false;
-		skillPoints--;
-		return skills.add(passiveSkill);
+	public boolean learnSkills(ServerPlayer player, List<PassiveSkill> newSkills) {
+		if (newSkills.isEmpty() || newSkills.size() > skillPoints) return false;
+		if (skills.size() + newSkills.size() > Config.max_skill_points) return false;
+		BitSet learned = (BitSet) learnedSkills.clone();
+		Set<ResourceLocation> learnedGateways = new HashSet<>();
+		skills.forEach(skill -> skill.getGatewayId().ifPresent(learnedGateways::add));
+		for (PassiveSkill skill : newSkills) {
+			if (!canLearnSkill(skill, learned, learnedGateways)) return false;
+			learned.set(skill.getOrdinal());
+			skill.getGatewayId().ifPresent(learnedGateways::add);
+		}
+		skillPoints -= newSkills.size();
+		newSkills.forEach(this::addSkill);
+		modifiers.addSkills(player, newSkills, false);
+		return true;
+	}
+
+	private static boolean canLearnSkill(PassiveSkill skill, BitSet learned, Set<ResourceLocation> learnedGateways) {
+		if (learned.get(skill.getOrdinal())) return false;
+		if (isLearnedGateway(skill, learnedGateways)) return false;
+		if (learned.isEmpty()) return skill.isStartingPoint();
+		for (PassiveSkill connectedSkill : SkillsReloader.getConnectedSkills(skill)) {
+			if (learned.get(connectedSkill.getOrdinal())) return true;
+			// a learned gateway opens every other gateway with the same id
+			if (isLearnedGateway(connectedSkill, learnedGateways)) return true;
+		}
+		return false;
+	}
+
+	private static boolean isLearnedGateway(PassiveSkill skill, Set<ResourceLocation> learnedGateways) {
+		return skill.getGatewayId().map(learnedGateways::contains).orElse(false);
+	}
+
+	@Override
+	public void restoreSkillBonuses(ServerPlayer player) {
+		modifiers.clear(player);
+		modifiers.addSkills(player, skills, true);
+	}
+
+	@Override
+	public void reloadSkills(ServerPlayer player) {
+		List<PassiveSkill> oldSkills = new ArrayList<>(skills);
+		modifiers.clear(player);
+		// ordinals are reassigned on reload, so learned skills have to be found by id again
+		clearSkills();
+		for (PassiveSkill oldSkill : oldSkills) {
+			PassiveSkill skill = SkillsReloader.getSkillById(oldSkill.getId());
+			if (skill == null) {
+				modifiers.removeSlotBonuses(player, oldSkill);
+				skillPoints++;
+			} else if (!hasSkill(skill)) {
+				addSkill(skill);
+			}
+		}
+		modifiers.addSkills(player, skills, true);
 	}
 
 	@Override
 	public boolean hasSkill(ResourceLocation skillId) {
-		return skills.stream().map(PassiveSkill::getId).anyMatch(skillId::equals);
+		PassiveSkill skill = skillLookup.apply(skillId);
+		return skill != null && hasSkill(skill);
+	}
+
+	@Override
+	public boolean hasSkill(PassiveSkill skill) {
+		return skill.getOrdinal() >= 0 && learnedSkills.get(skill.getOrdinal());
+	}
+
+	private void addSkill(PassiveSkill skill) {
+		learnedSkills.set(skill.getOrdinal());
+		skills.add(skill);
+	}
+
+	private void clearSkills() {
+		learnedSkills.clear();
+		skills.clear();
 	}
 
 	@Override
@@ -64,8 +152,18 @@ public class PlayerSkills implements IPlayerSkills {
 	@Override
 	public void resetTree(ServerPlayer player) {
 		skillPoints += getPlayerSkills().size();
-		getPlayerSkills().forEach(skill -> skill.remove(player));
-		getPlayerSkills().clear();
+		getPlayerSkills().forEach(skill -> modifiers.removeSlotBonuses(player, skill));
+		modifiers.clear(player);
+		clearSkills();
+	}
+
+	@Override
+	public int getChecksum() {
+		int checksum = skillPoints;
+		for (PassiveSkill skill : skills) {
+			checksum = 31 * checksum + skill.getOrdinal();
+		}
+		return checksum;
 	}
 
 	@Override
@@ -86,7 +184,7 @@ public class PlayerSkills implements IPlayerSkills {
 
 	@Override
 	public void deserializeNBT(CompoundTag tag) {
-		skills.clear();
+		clearSkills();
 		var treeVersion = tag.hasUUID("TreeVersion") ? tag.getUUID("TreeVersion") : null;
 		skillPoints = tag.getInt("Points");
 		var skillTagsList = tag.getList("Skills", StringTag.valueOf("").getId());
@@ -98,8 +196,8 @@ public class PlayerSkills implements IPlayerSkills {
 				var skillId = new ResourceLocation(skillTag.getAsString());
 				var passiveSkill = SkillsReloader.getSkillById(skillId);
 
-				if (passiveSkill != null) {
-					skills.add(passiveSkill);
+				if (passiveSkill != null && !hasSkill(passiveSkill)) {
+					addSkill(passiveSkill);
 				}
 			});
 		}
@@ -5,8 +5,8 @@ import org.jetbrains.annotations.Nullable;
 
 import daripher.skilltree.SkillTreeMod;
 import daripher.skilltree.network.NetworkDispatcher;
+import daripher.skilltree.network.message.SkillTreeHashMessage;
 import daripher.skilltree.network.message.SyncPlayerSkillsMessage;
-import daripher.skilltree.network.message.SyncSkillsMessage;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
@@ -21,6 +21,7 @@ import net.minecraftforge.common.capabilities.CapabilityToken;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.OnDatapackSyncEvent;
 import net.minecraftforge.event.entity.EntityJoinLevelEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent.PlayerLoggedInEvent;
@@ -34,12 +35,16 @@ public class PlayerSkillsProvider implements ICapabilitySerializable<CompoundTag
 	private static final ResourceLocation CAPABILITY_ID = new ResourceLocation(SkillTreeMod.MOD_ID, "player_skills");
 	private static final Capability<IPlayerSkills> CAPABILITY = CapabilityManager.get(new CapabilityToken<>() {
 	});
-	private LazyOptional<IPlayerSkills> optionalCapability = LazyOptional.of(() -> new PlayerSkills());
+	private final LazyOptional<IPlayerSkills> optionalCapability;
+
+	private PlayerSkillsProvider(boolean clientSide) {
+		optionalCapability = LazyOptional.of(() -> new PlayerSkills(clientSide));
+	}
 
 	@SubscribeEvent
 	public static void attachCapability(AttachCapabilitiesEvent<Entity> event) {
-		if (!(event.getObject() instanceof Player)) return;
-		PlayerSkillsProvider provider = new PlayerSkillsProvider();
+		if (!(event.getObject() instanceof Player player)) return;
+		PlayerSkillsProvider provider = new PlayerSkillsProvider(player.level.isClientSide);
 		event.addCapability(CAPABILITY_ID, provider);
 	}
 
@@ -56,14 +61,25 @@ public class PlayerSkillsProvider implements ICapabilitySerializable<CompoundTag
 	@SubscribeEvent
 	public static void syncSkills(PlayerLoggedInEvent event) {
 		if (!event.getEntity().level.isClientSide) {
-			NetworkDispatcher.network_channel.send(PacketDistributor.PLAYER.with(() -> (ServerPlayer) event.getEntity()), new SyncSkillsMessage());
+			NetworkDispatcher.network_channel.send(PacketDistributor.PLAYER.with(() -> (ServerPlayer) event.getEntity()), new SkillTreeHashMessage());
+		}
+	}
+
+	@SubscribeEvent
+	public static void reloadPlayerSkills(OnDatapackSyncEvent event) {
+		// the player is only set when a single player joins, skills are reloaded for everyone
+		if (event.getPlayer() != null) return;
+		for (ServerPlayer player : event.getPlayerList().getPlayers()) {
+			get(player).reloadSkills(player);
+			// ordinals may have changed, so clients have to check their tree before applying more deltas
+			NetworkDispatcher.network_channel.send(PacketDistributor.PLAYER.with(() -> player), new SkillTreeHashMessage());
 		}
 	}
 
 	@SubscribeEvent(priority = EventPriority.LOWEST)
 	public static void restoreSkillsAttributeModifiers(EntityJoinLevelEvent event) {
 		if (!(event.getEntity() instanceof ServerPlayer player)) return;
-		get(player).getPlayerSkills().forEach(skill -> skill.learn(player, true));
+		get(player).restoreSkillBonuses(player);
 	}
 
 	@SubscribeEvent
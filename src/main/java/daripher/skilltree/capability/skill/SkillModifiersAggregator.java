@@ -0,0 +1,115 @@
+package daripher.skilltree.capability.skill;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import daripher.skilltree.skill.PassiveSkill;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeInstance;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier.Operation;
+import net.minecraftforge.registries.ForgeRegistries;
+import top.theillusivec4.curios.api.CuriosApi;
+import top.theillusivec4.curios.common.CuriosHelper.SlotAttributeWrapper;
+
+/**
+ * Folds the bonuses of all learned skills into a single modifier per attribute and operation.
+ */
+public class SkillModifiersAggregator {
+	private static final Operation[] OPERATIONS = Operation.values();
+	private static final Map<Attribute, UUID[]> MODIFIER_IDS = new HashMap<>();
+	private final Map<Attribute, double[]> amounts = new HashMap<>();
+
+	/**
+	 * Adds bonuses of all skills first and only then updates every changed modifier once.
+	 */
+	public void addSkills(ServerPlayer player, Collection<PassiveSkill> skills, boolean restoring) {
+		Map<Attribute, boolean[]> changed = new HashMap<>();
+		for (PassiveSkill skill : skills) {
+			for (Pair<Attribute, AttributeModifier> bonus : skill.getAttributeModifiers()) {
+				Attribute attribute = bonus.getLeft();
+				AttributeModifier modifier = bonus.getRight();
+				if (attribute instanceof SlotAttributeWrapper wrapper) {
+					if (!restoring) growSlotType(player, wrapper, modifier);
+					continue;
+				}
+				Operation operation = modifier.getOperation();
+				double[] attributeAmounts = amounts.computeIfAbsent(attribute, a -> new double[OPERATIONS.length]);
+				attributeAmounts[operation.ordinal()] = combine(attributeAmounts[operation.ordinal()], modifier.getAmount(), operation);
+				changed.computeIfAbsent(attribute, a -> new boolean[OPERATIONS.length])[operation.ordinal()] = true;
+			}
+		}
+		changed.forEach((attribute, operations) -> {
+			for (Operation operation : OPERATIONS) {
+				if (operations[operation.ordinal()]) updateModifier(player, attribute, operation);
+			}
+		});
+	}
+
+	public void removeSlotBonuses(ServerPlayer player, PassiveSkill skill) {
+		for (Pair<Attribute, AttributeModifier> bonus : skill.getAttributeModifiers()) {
+			if (bonus.getLeft() instanceof SlotAttributeWrapper wrapper) shrinkSlotType(player, wrapper, bonus.getRight());
+		}
+	}
+
+	public void clear(ServerPlayer player) {
+		amounts.forEach((attribute, attributeAmounts) -> {
+			AttributeInstance instance = player.getAttribute(attribute);
+			if (instance == null) return;
+			for (Operation operation : OPERATIONS) {
+				instance.removeModifier(getModifierId(attribute, operation));
+			}
+		});
+		amounts.clear();
+	}
+
+	private void updateModifier(ServerPlayer player, Attribute attribute, Operation operation) {
+		AttributeInstance instance = player.getAttribute(attribute);
+		if (instance == null) return;
+		UUID modifierId = getModifierId(attribute, operation);
+		double amount = amounts.get(attribute)[operation.ordinal()];
+		AttributeModifier oldModifier = instance.getModifier(modifierId);
+		if (oldModifier != null) {
+			if (oldModifier.getAmount() == amount) return;
+			instance.removeModifier(modifierId);
+		}
+		if (amount == 0) return;
+		instance.addTransientModifier(new AttributeModifier(modifierId, "Passive Skill Tree", amount, operation));
+	}
+
+	private static double combine(double amount, double bonus, Operation operation) {
+		// total multipliers are applied one after another, so they have to be multiplied instead of summed
+		if (operation == Operation.MULTIPLY_TOTAL) return (1 + amount) * (1 + bonus) - 1;
+		return amount + bonus;
+	}
+
+	private static UUID getModifierId(Attribute attribute, Operation operation) {
+		UUID[] ids = MODIFIER_IDS.computeIfAbsent(attribute, a -> new UUID[OPERATIONS.length]);
+		UUID id = ids[operation.ordinal()];
+		if (id == null) {
+			// description ids are reused by some mods, registry names are unique
+			ResourceLocation attributeId = ForgeRegistries.ATTRIBUTES.getKey(attribute);
+			String name = "skilltree:" + (attributeId == null ? attribute.getDescriptionId() : attributeId) + "/" + operation.name();
+			id = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+			ids[operation.ordinal()] = id;
+		}
+		return id;
+	}
+
+	@SuppressWarnings("deprecation")
+	private static void growSlotType(ServerPlayer player, SlotAttributeWrapper wrapper, AttributeModifier modifier) {
+		CuriosApi.getSlotHelper().growSlotType(wrapper.identifier, (int) modifier.getAmount(), player);
+	}
+
+	@SuppressWarnings("deprecation")
+	private static void shrinkSlotType(ServerPlayer player, SlotAttributeWrapper wrapper, AttributeModifier modifier) {
+		CuriosApi.getSlotHelper().shrinkSlotType(wrapper.identifier, (int) modifier.getAmount(), player);
+	}
+}
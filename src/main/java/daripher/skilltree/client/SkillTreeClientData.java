@@ -3,36 +3,131 @@ package daripher.skilltree.client;
 import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.apache.commons.io.FilenameUtils;
+import org.slf4j.Logger;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.stream.JsonReader;
+import com.mojang.logging.LogUtils;
 
 import daripher.skilltree.skill.PassiveSkill;
 import daripher.skilltree.util.ByteBufHelper;
 import daripher.skilltree.util.JsonHelper;
+import io.netty.buffer.Unpooled;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraftforge.fml.loading.FMLPaths;
 
 public class SkillTreeClientData {
+	private static final Logger LOGGER = LogUtils.getLogger();
 	private static final Map<ResourceLocation, PassiveSkill> ALL_ASSIVE_SKILLS = new HashMap<>();
+	private static final List<PassiveSkill> SKILLS_BY_ORDINAL = new ArrayList<>();
 	private static final Map<ResourceLocation, Map<ResourceLocation, PassiveSkill>> SKILL_TREES = new HashMap<>();
 	private static final Map<ResourceLocation, Map<ResourceLocation, PassiveSkill>> EDITOR_TREES = new HashMap<>();
+	private static final Pattern TREE_HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+	private static final int MAX_CACHED_TREES = 8;
+	private static @Nullable String treeHash;
 
 	public static void loadFromByteBuf(FriendlyByteBuf buf) {
 		ALL_ASSIVE_SKILLS.clear();
+		SKILLS_BY_ORDINAL.clear();
 		SKILL_TREES.clear();
 		List<PassiveSkill> skills = ByteBufHelper.readPassiveSkills(buf);
+		// skills are sent in the order of their ordinals
+		for (int ordinal = 0; ordinal < skills.size(); ordinal++) {
+			skills.get(ordinal).setOrdinal(ordinal);
+		}
 		skills.forEach(SkillTreeClientData::storeSkill);
+		SKILLS_BY_ORDINAL.addAll(skills);
+	}
+
+	/**
+	 * @return true if the tree with this hash was loaded from the cache
+	 */
+	public static boolean loadFromCache(String hash) {
+		if (!isValidTreeHash(hash)) return false;
+		File cacheFile = new File(getCacheFolder(), hash + ".bin");
+		if (!cacheFile.exists()) return false;
+		try {
+			byte[] payload = Files.readAllBytes(cacheFile.toPath());
+			if (!hash.equals(ByteBufHelper.getPayloadHash(payload))) {
+				Files.delete(cacheFile.toPath());
+				return false;
+			}
+			loadFromByteBuf(new FriendlyByteBuf(Unpooled.wrappedBuffer(payload)));
+			treeHash = hash;
+			// keeps trees that are still in use from being pruned
+			cacheFile.setLastModified(System.currentTimeMillis());
+			return true;
+		} catch (Exception exception) {
+			LOGGER.error("Couldn't load cached skill tree {}", hash, exception);
+			return false;
+		}
+	}
+
+	/**
+	 * @return hash of the loaded tree, ordinals in messages are only valid for the tree with the same
+	 *         hash on the server
+	 */
+	/**
+	 * Hashes come from the server and are used as file names, so anything but a sha256 hex string is
+	 * rejected before touching the cache.
+	 */
+	public static boolean isValidTreeHash(String hash) {
+		return TREE_HASH_PATTERN.matcher(hash).matches();
+	}
+
+	public static @Nullable String getTreeHash() {
+		return treeHash;
+	}
+
+	public static void setTreeHash(String hash) {
+		treeHash = hash;
+	}
+
+	public static void saveToCache(byte[] payload) {
+		File cacheFolder = getCacheFolder();
+		cacheFolder.mkdirs();
+		File cacheFile = new File(cacheFolder, ByteBufHelper.getPayloadHash(payload) + ".bin");
+		try {
+			Files.write(cacheFile.toPath(), payload);
+		} catch (IOException exception) {
+			LOGGER.error("Couldn't cache skill tree", exception);
+		}
+		pruneCache(cacheFolder);
+	}
+
+	/**
+	 * Every reload on every server adds a tree to the cache, so only the most recently used ones are
+	 * kept.
+	 */
+	private static void pruneCache(File cacheFolder) {
+		File[] cacheFiles = cacheFolder.listFiles((folder, name) -> name.endsWith(".bin"));
+		if (cacheFiles == null || cacheFiles.length <= MAX_CACHED_TREES) return;
+		Arrays.sort(cacheFiles, Comparator.comparingLong(File::lastModified).reversed());
+		for (int i = MAX_CACHED_TREES; i < cacheFiles.length; i++) {
+			if (!cacheFiles[i].delete()) LOGGER.warn("Couldn't delete cached skill tree {}", cacheFiles[i].getName());
+		}
+	}
+
+	private static File getCacheFolder() {
+		return new File(FMLPaths.GAMEDIR.get().toFile(), "skilltree/cache");
 	}
 
 	private static void storeSkill(PassiveSkill skill) {
@@ -42,6 +137,17 @@ public class SkillTreeClientData {
 		SKILL_TREES.get(treeId).put(skill.getId(), skill);
 	}
 
+	@Nullable
+	public static PassiveSkill getSkill(ResourceLocation skillId) {
+		return ALL_ASSIVE_SKILLS.get(skillId);
+	}
+
+	@Nullable
+	public static PassiveSkill getSkill(int ordinal) {
+		if (ordinal < 0 || ordinal >= SKILLS_BY_ORDINAL.size()) return null;
+		return SKILLS_BY_ORDINAL.get(ordinal);
+	}
+
 	public static Set<ResourceLocation> getTreeIds() {
 		return SKILL_TREES.keySet();
 	}
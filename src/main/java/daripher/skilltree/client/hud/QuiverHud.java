@@ -1,13 +1,11 @@
 package daripher.skilltree.client.hud;
 
-import java.util.Optional;
-
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
 
 import daripher.skilltree.SkillTreeMod;
-import daripher.skilltree.item.ItemHelper;
 import daripher.skilltree.item.quiver.QuiverItem;
+import daripher.skilltree.util.PlayerHelper;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.client.renderer.GameRenderer;
@@ -23,8 +21,6 @@ import net.minecraftforge.client.gui.overlay.IGuiOverlay;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber.Bus;
-import top.theillusivec4.curios.api.CuriosApi;
-import top.theillusivec4.curios.api.SlotResult;
 
 @EventBusSubscriber(modid = SkillTreeMod.MOD_ID, bus = Bus.MOD, value = Dist.CLIENT)
 public enum QuiverHud implements IGuiOverlay {
@@ -35,8 +31,8 @@ public enum QuiverHud implements IGuiOverlay {
 	@Override
 	public void render(ForgeGui gui, PoseStack poseStack, float partialTick, int screenWidth, int screenHeight) {
 		LocalPlayer player = Minecraft.getInstance().player;
-		Optional<SlotResult> quiverCurio = CuriosApi.getCuriosHelper().findFirstCurio(player, ItemHelper::isQuiver);
-		quiverCurio.map(SlotResult::stack).ifPresent(quiver -> {
+		ItemStack quiver = PlayerHelper.getCuriosIndex(player).getQuiver();
+		if (!quiver.isEmpty()) {
 			RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
 			RenderSystem.setShader(GameRenderer::getPositionTexShader);
 			RenderSystem.setShaderTexture(0, WIDGETS_LOCATION);
@@ -64,7 +60,7 @@ public enum QuiverHud implements IGuiOverlay {
 					renderSlot(slotX + 10, slotY, partialTick, player, arrows, 1, arrowsCount);
 				}
 			}
-		});
+		}
 	}
 
 	private void renderSlot(int x, int y, float partialTick, Player player, ItemStack stack, int i, int count) {
@@ -26,7 +26,7 @@ import daripher.skilltree.client.widget.StatsList;
 import daripher.skilltree.config.Config;
 import daripher.skilltree.network.NetworkDispatcher;
 import daripher.skilltree.network.message.GainSkillPointMessage;
-import daripher.skilltree.network.message.LearnSkillMessage;
+import daripher.skilltree.network.message.LearnSkillsMessage;
 import daripher.skilltree.skill.PassiveSkill;
 import daripher.skilltree.util.TooltipHelper;
 import net.minecraft.client.Minecraft;
@@ -380,7 +380,9 @@ public class SkillTreeScreen extends Screen {
 	}
 
 	private void confirmLearnSkills() {
-		newlyLearnedSkills.forEach(id -> learnSkill(skillButtons.get(id).skill));
+		List<PassiveSkill> skills = newlyLearnedSkills.stream().map(id -> skillButtons.get(id).skill).toList();
+		skills.forEach(this::learnSkill);
+		NetworkDispatcher.network_channel.sendToServer(new LearnSkillsMessage(SkillTreeClientData.getTreeHash(), skills));
 		newlyLearnedSkills.clear();
 		newlyLearnedGateways.clear();
 	}
@@ -436,7 +438,6 @@ public class SkillTreeScreen extends Screen {
 	protected void learnSkill(PassiveSkill skill) {
 		learnedSkills.add(skill.getId());
 		if (skill.isGateway()) learnedGateways.add(skill.getGatewayId().get());
-		NetworkDispatcher.network_channel.sendToServer(new LearnSkillMessage(skill));
 		rebuildWidgets();
 	}
 
@@ -0,0 +1,106 @@
+package daripher.skilltree.combat;
+
+import javax.annotation.Nullable;
+
+import daripher.skilltree.item.EquipmentProfile;
+import daripher.skilltree.util.PlayerHelper;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.effect.MobEffects;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.projectile.Projectile;
+
+/**
+ * Everything combat bonuses need to know about a single hit, looked up once before any bonus is
+ * applied.
+ */
+public class CombatContext {
+	private final ServerPlayer attacker;
+	private final LivingEntity target;
+	private final DamageSource source;
+	private final @Nullable Entity directEntity;
+	private final @Nullable Projectile projectile;
+	private final boolean melee;
+	private final EquipmentProfile equipment;
+	private final boolean targetPoisoned;
+	private final boolean targetBurning;
+	private final float distance;
+	private final int foodLevel;
+	private final boolean damaged;
+	private final boolean wounded;
+	private final int activeEffects;
+
+	public CombatContext(ServerPlayer attacker, LivingEntity target, DamageSource source) {
+		this.attacker = attacker;
+		this.target = target;
+		this.source = source;
+		this.directEntity = source.getDirectEntity();
+		this.projectile = directEntity instanceof Projectile projectile ? projectile : null;
+		this.melee = directEntity == attacker;
+		this.equipment = PlayerHelper.getEquipmentProfile(attacker);
+		this.targetPoisoned = target.hasEffect(MobEffects.POISON);
+		this.targetBurning = target.isOnFire();
+		this.distance = attacker.distanceTo(target);
+		this.foodLevel = attacker.getFoodData().getFoodLevel();
+		this.damaged = attacker.getHealth() < attacker.getMaxHealth();
+		this.wounded = attacker.getHealth() < attacker.getMaxHealth() / 2;
+		this.activeEffects = attacker.getActiveEffects().size();
+	}
+
+	public ServerPlayer getAttacker() {
+		return attacker;
+	}
+
+	public LivingEntity getTarget() {
+		return target;
+	}
+
+	public DamageSource getSource() {
+		return source;
+	}
+
+	public @Nullable Entity getDirectEntity() {
+		return directEntity;
+	}
+
+	public @Nullable Projectile getProjectile() {
+		return projectile;
+	}
+
+	public boolean isMelee() {
+		return melee;
+	}
+
+	public EquipmentProfile getEquipment() {
+		return equipment;
+	}
+
+	public boolean isTargetPoisoned() {
+		return targetPoisoned;
+	}
+
+	public boolean isTargetBurning() {
+		return targetBurning;
+	}
+
+	public float getDistance() {
+		return distance;
+	}
+
+	public int getFoodLevel() {
+		return foodLevel;
+	}
+
+	public boolean isAttackerDamaged() {
+		return damaged;
+	}
+
+	public boolean isAttackerWounded() {
+		return wounded;
+	}
+
+	public int getActiveEffects() {
+		return activeEffects;
+	}
+}
@@ -0,0 +1,111 @@
+package daripher.skilltree.combat;
+
+import java.util.List;
+
+import daripher.skilltree.SkillTreeMod;
+import daripher.skilltree.capability.arrows.StuckArrowsProvider;
+import daripher.skilltree.init.PSTAttributes;
+import daripher.skilltree.item.ItemHelper;
+import daripher.skilltree.mixin.accessor.AbstractArrowAccessor;
+import daripher.skilltree.util.PlayerHelper;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.projectile.AbstractArrow;
+import net.minecraft.world.entity.projectile.ThrownTrident;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Explosion.BlockInteraction;
+import net.minecraftforge.event.entity.living.LivingHurtEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+
+/**
+ * Applies all bonuses of the attacking player to a hit. The context is built once per hit and then
+ * passed through the stages in order, damage bonuses first and on-hit effects after them.
+ */
+@EventBusSubscriber(modid = SkillTreeMod.MOD_ID)
+public class CombatPipeline {
+	private static final List<CombatStage> STAGES = List.of(
+			CombatPipeline::applyDamageBonus,
+			CombatPipeline::applyProjectileDamageBonus,
+			CombatPipeline::applyPoisonedWeaponEffects,
+			CombatPipeline::applyPoisonedThrownTridentEffects,
+			CombatPipeline::applyLifePerHitBonus,
+			CombatPipeline::applyChanceToRetrieveArrowsBonus,
+			CombatPipeline::applyChanceToIgnite,
+			CombatPipeline::applyChanceToExplodeEnemy);
+
+	@SubscribeEvent
+	public static void applyCombatBonuses(LivingHurtEvent event) {
+		if (!(event.getSource().getEntity() instanceof ServerPlayer player)) return;
+		CombatContext context = new CombatContext(player, event.getEntity(), event.getSource());
+		for (CombatStage stage : STAGES) {
+			stage.apply(context, event);
+		}
+	}
+
+	private static void applyDamageBonus(CombatContext context, LivingHurtEvent event) {
+		if (!context.isMelee()) return;
+		event.setAmount(event.getAmount() * PlayerHelper.getDamageMultiplier(context));
+	}
+
+	private static void applyProjectileDamageBonus(CombatContext context, LivingHurtEvent event) {
+		if (context.getProjectile() == null) return;
+		event.setAmount(event.getAmount() * PlayerHelper.getProjectileDamageMultiplier(context));
+	}
+
+	private static void applyPoisonedWeaponEffects(CombatContext context, LivingHurtEvent event) {
+		if (!context.isMelee()) return;
+		applyPoisons(context.getAttacker().getMainHandItem(), context.getTarget());
+	}
+
+	private static void applyPoisonedThrownTridentEffects(CombatContext context, LivingHurtEvent event) {
+		if (!(context.getDirectEntity() instanceof ThrownTrident trident)) return;
+		applyPoisons(getArrowStack(trident), context.getTarget());
+	}
+
+	private static void applyPoisons(ItemStack weapon, LivingEntity target) {
+		if (!ItemHelper.hasPoisons(weapon)) return;
+		ItemHelper.getPoisons(weapon).stream().map(MobEffectInstance::new).forEach(target::addEffect);
+	}
+
+	private static void applyLifePerHitBonus(CombatContext context, LivingHurtEvent event) {
+		boolean arrowHit = context.getDirectEntity() instanceof AbstractArrow;
+		if (!context.isMelee() && !arrowHit) return;
+		if (context.getFoodLevel() == 0) return;
+		ServerPlayer player = context.getAttacker();
+		double lifePerHit = PlayerHelper.getAttributeValue(player, PSTAttributes.LIFE_PER_HIT);
+		if (arrowHit) {
+			lifePerHit += PlayerHelper.getAttributeValue(player, PSTAttributes.LIFE_PER_PROJECTILE_HIT);
+		}
+		player.getFoodData().addExhaustion((float) (lifePerHit / 5));
+		player.heal((float) lifePerHit);
+	}
+
+	private static void applyChanceToRetrieveArrowsBonus(CombatContext context, LivingHurtEvent event) {
+		if (!(context.getDirectEntity() instanceof AbstractArrow arrow)) return;
+		ServerPlayer player = context.getAttacker();
+		double chance = PlayerHelper.getAttributeValue(player, PSTAttributes.CHANCE_TO_RETRIEVE_ARROWS) - 1;
+		if (player.getRandom().nextFloat() >= chance) return;
+		StuckArrowsProvider.get(context.getTarget()).ifPresent(stuckArrows -> stuckArrows.addArrow(getArrowStack(arrow)));
+	}
+
+	private static void applyChanceToIgnite(CombatContext context, LivingHurtEvent event) {
+		ServerPlayer player = context.getAttacker();
+		double chance = PlayerHelper.getAttributeValue(player, PSTAttributes.CHANCE_TO_IGNITE) - 1;
+		if (player.getRandom().nextFloat() >= chance) return;
+		context.getTarget().setSecondsOnFire(5);
+	}
+
+	private static void applyChanceToExplodeEnemy(CombatContext context, LivingHurtEvent event) {
+		ServerPlayer player = context.getAttacker();
+		double chance = PlayerHelper.getAttributeValue(player, PSTAttributes.CHANCE_TO_EXPLODE_ENEMY) - 1;
+		if (player.getRandom().nextFloat() >= chance) return;
+		LivingEntity target = context.getTarget();
+		target.level.explode(player, target.getX(), target.getEyeY(), target.getZ(), 2F, BlockInteraction.NONE);
+	}
+
+	private static ItemStack getArrowStack(AbstractArrow arrow) {
+		return ((AbstractArrowAccessor) arrow).invokeGetPickupItem();
+	}
+}
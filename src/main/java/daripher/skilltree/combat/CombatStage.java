@@ -0,0 +1,8 @@
+package daripher.skilltree.combat;
+
+import net.minecraftforge.event.entity.living.LivingHurtEvent;
+
+@FunctionalInterface
+public interface CombatStage {
+	void apply(CombatContext context, LivingHurtEvent event);
+}
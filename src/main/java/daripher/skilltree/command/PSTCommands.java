@@ -1,5 +1,7 @@
 package daripher.skilltree.command;
 
+import java.util.List;
+
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
@@ -7,7 +9,8 @@ import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import daripher.skilltree.SkillTreeMod;
 import daripher.skilltree.capability.skill.PlayerSkillsProvider;
 import daripher.skilltree.network.NetworkDispatcher;
-import daripher.skilltree.network.message.SyncPlayerSkillsMessage;
+import daripher.skilltree.network.message.SkillPointsChangedMessage;
+import daripher.skilltree.network.message.SkillsRemovedMessage;
 import net.minecraft.ChatFormatting;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -49,9 +52,10 @@ public class PSTCommands {
 	private static int executeResetCommand(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
 		var player = EntityArgument.getPlayer(ctx, "player");
 		var skillsCapability = PlayerSkillsProvider.get(player);
+		var removedSkills = List.copyOf(skillsCapability.getPlayerSkills());
 		skillsCapability.resetTree(player);
 		player.sendSystemMessage(Component.translatable("skilltree.message.reset_command").withStyle(ChatFormatting.YELLOW));
-		NetworkDispatcher.network_channel.send(PacketDistributor.PLAYER.with(() -> player), new SyncPlayerSkillsMessage(player));
+		NetworkDispatcher.network_channel.send(PacketDistributor.PLAYER.with(() -> player), new SkillsRemovedMessage(player, removedSkills));
 		return 1;
 	}
 
@@ -61,7 +65,7 @@ public class PSTCommands {
 		var skillsCapability = PlayerSkillsProvider.get(player);
 		skillsCapability.setSkillPoints(amount + skillsCapability.getSkillPoints());
 		player.sendSystemMessage(Component.translatable("skilltree.message.point_command").withStyle(ChatFormatting.YELLOW));
-		NetworkDispatcher.network_channel.send(PacketDistributor.PLAYER.with(() -> player), new SyncPlayerSkillsMessage(player));
+		NetworkDispatcher.network_channel.send(PacketDistributor.PLAYER.with(() -> player), new SkillPointsChangedMessage(player));
 		return 1;
 	}
 
@@ -70,7 +74,7 @@ public class PSTCommands {
 		var amount = IntegerArgumentType.getInteger(ctx, "amount");
 		var skillsCapability = PlayerSkillsProvider.get(player);
 		skillsCapability.setSkillPoints(amount);
-		NetworkDispatcher.network_channel.send(PacketDistributor.PLAYER.with(() -> player), new SyncPlayerSkillsMessage(player));
+		NetworkDispatcher.network_channel.send(PacketDistributor.PLAYER.with(() -> player), new SkillPointsChangedMessage(player));
 		return 1;
 	}
 
@@ -1,6 +1,7 @@
 package daripher.skilltree.compat.apotheosis;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.util.Iterator;
 import java.util.List;
@@ -51,6 +52,9 @@ import top.theillusivec4.curios.api.event.CurioAttributeModifierEvent;
 public enum ApotheosisCompatibility {
 	ISNTANCE;
 
+	// SocketHelper.getGems with explicit sockets count, resolved once instead of on every call
+	private static final MethodHandle GET_GEMS = findGetGemsMethod();
+
 	public final LootCategory ring = LootCategory.register(null, "ring", ItemHelper::isRing, new EquipmentSlot[0]);
 	public final LootCategory necklace = LootCategory.register(null, "necklace", ItemHelper::isNecklace, new EquipmentSlot[0]);
 
@@ -68,14 +72,22 @@ public enum ApotheosisCompatibility {
 	@SuppressWarnings("unchecked")
 	public List<ItemStack> getGems(ItemStack stack, int sockets) {
 		try {
-			Method getGems = ObfuscationReflectionHelper.findMethod(SocketHelper.class, "getGems", ItemStack.class, int.class);
-			return (List<ItemStack>) getGems.invoke(null, stack, sockets);
-		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			return (List<ItemStack>) GET_GEMS.invokeExact(stack, sockets);
+		} catch (Throwable e) {
 			e.printStackTrace();
 			return null;
 		}
 	}
 
+	private static MethodHandle findGetGemsMethod() {
+		try {
+			Method getGems = ObfuscationReflectionHelper.findMethod(SocketHelper.class, "getGems", ItemStack.class, int.class);
+			return MethodHandles.lookup().unreflect(getGems);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	public void ignoreGemTooltips(GatherSkippedAttributeTooltipsEvent event) {
 		ItemStack stack = event.getStack();
 		int socket = 0;
@@ -165,11 +177,6 @@ public enum ApotheosisCompatibility {
 		return Apotheosis.enableAdventure;
 	}
 
-	public int getGemsCount(ItemStack itemStack) {
-		if (!adventureModuleEnabled()) return 0;
-		return SocketHelper.getActiveGems(itemStack).size();
-	}
-
 	public void dropGemFromOre(Player player, ServerLevel level, BlockPos blockPos) {
 		ItemStack gem = GemManager.createRandomGemStack(player.getRandom(), level, player.getLuck(), this::shouldDropFromOre);
 		Block.popResource(level, blockPos, gem);
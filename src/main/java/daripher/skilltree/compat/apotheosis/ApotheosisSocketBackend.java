@@ -0,0 +1,35 @@
+package daripher.skilltree.compat.apotheosis;
+
+import javax.annotation.Nullable;
+
+import daripher.skilltree.item.gem.SocketBackend;
+import daripher.skilltree.item.gem.SocketData;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import shadows.apotheosis.adventure.affix.socket.SocketHelper;
+
+/**
+ * Used when the Apotheosis adventure module is enabled. Gems from this mod are disabled then and
+ * Apotheosis sockets are used instead.
+ */
+public class ApotheosisSocketBackend implements SocketBackend {
+	@Override
+	public boolean areGemsEnabled() {
+		return false;
+	}
+
+	@Override
+	public SocketData getSocketData(ItemStack stack) {
+		return SocketData.EMPTY;
+	}
+
+	@Override
+	public int getGemsCount(ItemStack stack) {
+		return SocketHelper.getActiveGems(stack).size();
+	}
+
+	@Override
+	public int getMaximumSockets(ItemStack stack, @Nullable Player player) {
+		return 0;
+	}
+}
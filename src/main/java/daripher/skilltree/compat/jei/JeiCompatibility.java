@@ -1,7 +1,7 @@
 package daripher.skilltree.compat.jei;
 
 import daripher.skilltree.SkillTreeMod;
-import daripher.skilltree.compat.apotheosis.ApotheosisCompatibility;
+import daripher.skilltree.item.gem.GemHelper;
 import daripher.skilltree.item.gem.GemItem;
 import mezz.jei.api.IModPlugin;
 import mezz.jei.api.JeiPlugin;
@@ -11,7 +11,6 @@ import mezz.jei.api.registration.IRecipeRegistration;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
-import net.minecraftforge.fml.ModList;
 import net.minecraftforge.registries.ForgeRegistries;
 
 @JeiPlugin
@@ -24,9 +23,7 @@ public class JeiCompatibility implements IModPlugin {
 
 	@Override
 	public void registerRecipes(IRecipeRegistration registration) {
-		if (ModList.get().isLoaded("apotheosis")) {
-			if (ApotheosisCompatibility.ISNTANCE.adventureModuleEnabled()) return;
-		}
+		if (!GemHelper.areGemsEnabled()) return;
 		ForgeRegistries.ITEMS.getValues().stream().filter(GemItem.class::isInstance).map(ItemStack::new).forEach(itemStack -> addGemInfo(registration, itemStack));
 	}
 
@@ -6,6 +6,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import daripher.skilltree.SkillTreeMod;
+import daripher.skilltree.item.ItemCategories;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.Item;
 import net.minecraftforge.common.ForgeConfigSpec;
@@ -180,6 +181,7 @@ public class Config {
 		forced_ranged_weapon = getItems(FORCED_RANGED_WEAPON.get());
 		mixture_effects_duration = MIXTURE_EFFECTS_DURATION.get();
 		mixture_effects_strength = MIXTURE_EFFECTS_STRENGTH.get();
+		ItemCategories.rebuild();
 	}
 
 	public static int getSkillPointCost(int level) {
@@ -0,0 +1,49 @@
+package daripher.skilltree.event;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import daripher.skilltree.SkillTreeMod;
+import daripher.skilltree.attribute.AttributeBonusHandler;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.PlayerTickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+
+@EventBusSubscriber(modid = SkillTreeMod.MOD_ID)
+public class PlayerTickScheduler {
+	// formatter:off
+	private static final List<Job> JOBS = List.of(
+			new Job(1, AttributeBonusHandler::applyDynamicAttributeBonuses),
+			new Job(AttributeBonusHandler.LIFE_REGENERATION_INTERVAL, AttributeBonusHandler::applyLifeRegenerationBonus),
+			new Job(AttributeBonusHandler.EXPERIENCE_BONUS_INTERVAL, AttributeBonusHandler::applyExperiencePerHourBonus));
+	// formatter:on
+
+	@SubscribeEvent
+	public static void runPlayerJobs(PlayerTickEvent event) {
+		if (event.phase != Phase.START) return;
+		if (!(event.player instanceof ServerPlayer player)) return;
+		int tick = player.tickCount + getTickOffset(player);
+		for (Job job : JOBS) {
+			if (tick % job.interval == 0) job.task.accept(player);
+		}
+	}
+
+	/**
+	 * Spreads periodic jobs of different players across ticks, so they don't all run on the same tick.
+	 */
+	private static int getTickOffset(ServerPlayer player) {
+		return player.getUUID().hashCode() & 0xFFFF;
+	}
+
+	private static class Job {
+		private final int interval;
+		private final Consumer<ServerPlayer> task;
+
+		private Job(int interval, Consumer<ServerPlayer> task) {
+			this.interval = interval;
+			this.task = task;
+		}
+	}
+}
@@ -1,9 +1,9 @@
 package daripher.skilltree.init;
 
 import daripher.skilltree.SkillTreeMod;
+import daripher.skilltree.attribute.IndexedAttribute;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.ai.attributes.Attribute;
-import net.minecraft.world.entity.ai.attributes.RangedAttribute;
 import net.minecraftforge.event.entity.EntityAttributeModificationEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
@@ -15,6 +15,7 @@ import net.minecraftforge.registries.RegistryObject;
 @EventBusSubscriber(modid = SkillTreeMod.MOD_ID, bus = Bus.MOD)
 public class PSTAttributes {
 	public static final DeferredRegister<Attribute> REGISTRY = DeferredRegister.create(ForgeRegistries.ATTRIBUTES, SkillTreeMod.MOD_ID);
+	private static int attributesCount;
 
 	// alchemist attributes
 	public static final RegistryObject<Attribute> ATTACK_SPEED_UNDER_POTION_EFFECT = create("attack_speed_under_potion_effect", 1D, 1D);
@@ -197,7 +198,12 @@ public class PSTAttributes {
 
 	private static RegistryObject<Attribute> create(String name, double defaultValue, double minValue) {
 		String descriptionId = "attribute.name." + SkillTreeMod.MOD_ID + "." + name;
-		return REGISTRY.register(name, () -> new RangedAttribute(descriptionId, defaultValue, minValue, 1024D).setSyncable(true));
+		int index = attributesCount++;
+		return REGISTRY.register(name, () -> new IndexedAttribute(descriptionId, defaultValue, minValue, 1024D, index).setSyncable(true));
+	}
+
+	public static int getAttributesCount() {
+		return attributesCount;
 	}
 
 	@SubscribeEvent
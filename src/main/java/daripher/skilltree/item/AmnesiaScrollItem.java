@@ -7,7 +7,8 @@ import daripher.skilltree.capability.skill.PlayerSkillsProvider;
 import daripher.skilltree.config.Config;
 import daripher.skilltree.init.PSTCreativeTabs;
 import daripher.skilltree.network.NetworkDispatcher;
-import daripher.skilltree.network.message.SyncPlayerSkillsMessage;
+import daripher.skilltree.network.message.SkillsRemovedMessage;
+import daripher.skilltree.skill.PassiveSkill;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
@@ -37,10 +38,11 @@ public class AmnesiaScrollItem extends Item {
 			level.playSound(null, player, SoundEvents.BOOK_PAGE_TURN, player.getSoundSource(), 0.9F, 0.7F + player.getRandom().nextFloat() * 0.3F);
 			level.playSound(null, player, SoundEvents.ALLAY_AMBIENT_WITHOUT_ITEM, player.getSoundSource(), 0.4F,
 					0.2F + player.getRandom().nextFloat() * 0.2F);
+			List<PassiveSkill> removedSkills = List.copyOf(skills.getPlayerSkills());
 			skills.resetTree((ServerPlayer) player);
 			skills.setSkillPoints((int) (skills.getSkillPoints() * (1 - Config.amnesia_scroll_penalty)));
 			player.sendSystemMessage(Component.translatable("skilltree.message.reset_command").withStyle(ChatFormatting.YELLOW));
-			NetworkDispatcher.network_channel.send(PacketDistributor.PLAYER.with(() -> (ServerPlayer) player), new SyncPlayerSkillsMessage(player));
+			NetworkDispatcher.network_channel.send(PacketDistributor.PLAYER.with(() -> (ServerPlayer) player), new SkillsRemovedMessage(player, removedSkills));
 		}
 		return InteractionResultHolder.sidedSuccess(scroll, level.isClientSide);
 	}
@@ -0,0 +1,85 @@
+package daripher.skilltree.item;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import top.theillusivec4.curios.api.CuriosApi;
+import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
+import top.theillusivec4.curios.api.type.inventory.IDynamicStackHandler;
+
+/**
+ * Curios equipped by the player, grouped by category. Rebuilt only after a curio changes, instead of
+ * searching every curio slot on each call. Curios doesn't post change events on the client, so
+ * there the index is rebuilt at most once per tick.
+ */
+public class CuriosIndex {
+	private final List<ItemStack> quivers = new ArrayList<>();
+	private final List<ItemStack> rings = new ArrayList<>();
+	private final List<ItemStack> necklaces = new ArrayList<>();
+	private @Nullable IDynamicStackHandler quiverStacks;
+	private int quiverSlot;
+	private int lastUpdateTick = -1;
+	private boolean dirty = true;
+
+	public void markDirty() {
+		dirty = true;
+	}
+
+	public CuriosIndex update(Player player) {
+		if (player.level.isClientSide && lastUpdateTick != player.tickCount) dirty = true;
+		if (dirty || quiverReplaced()) rebuild(player);
+		return this;
+	}
+
+	private boolean quiverReplaced() {
+		if (quiverStacks == null) return false;
+		if (quiverSlot >= quiverStacks.getSlots()) return true;
+		return quiverStacks.getStackInSlot(quiverSlot) != quivers.get(0);
+	}
+
+	private void rebuild(Player player) {
+		quivers.clear();
+		rings.clear();
+		necklaces.clear();
+		quiverStacks = null;
+		CuriosApi.getCuriosHelper().getCuriosHandler(player).ifPresent(handler -> {
+			handler.getCurios().forEach((identifier, stacksHandler) -> addCurios(identifier, stacksHandler));
+		});
+		lastUpdateTick = player.tickCount;
+		dirty = false;
+	}
+
+	private void addCurios(String identifier, ICurioStacksHandler stacksHandler) {
+		IDynamicStackHandler stacks = stacksHandler.getStacks();
+		for (int slot = 0; slot < stacks.getSlots(); slot++) {
+			ItemStack stack = stacks.getStackInSlot(slot);
+			if (stack.isEmpty()) continue;
+			if (ItemHelper.isQuiver(stack)) {
+				if (quivers.isEmpty()) {
+					quiverStacks = stacks;
+					quiverSlot = slot;
+				}
+				quivers.add(stack);
+			}
+			// jewelry is counted by slot type, so anything worn in these slots counts
+			if (identifier.equals("ring")) rings.add(stack);
+			if (identifier.equals("necklace")) necklaces.add(stack);
+		}
+	}
+
+	public ItemStack getQuiver() {
+		return quivers.isEmpty() ? ItemStack.EMPTY : quivers.get(0);
+	}
+
+	public boolean hasQuiver() {
+		return !quivers.isEmpty();
+	}
+
+	public int getJewelryCount() {
+		return rings.size() + necklaces.size();
+	}
+}
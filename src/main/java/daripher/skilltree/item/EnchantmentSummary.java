@@ -0,0 +1,77 @@
+package daripher.skilltree.item;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.enchantment.Enchantment;
+import net.minecraftforge.common.extensions.IForgeItem;
+
+/**
+ * Enchantments of a stack decoded once. Stays valid while the stack keeps the same tag and the
+ * content hash of its enchantments list doesn't change, so levels edited in place are noticed too.
+ * Items that compute their own enchantments can use any data of the tag, so the whole tag is hashed
+ * for them.
+ */
+public class EnchantmentSummary {
+	private final @Nullable CompoundTag tag;
+	private final boolean customEnchantments;
+	private final int stamp;
+	private final Object2IntMap<Enchantment> levels = new Object2IntOpenHashMap<>();
+	private int totalLevel;
+
+	private EnchantmentSummary(ItemStack stack) {
+		tag = stack.getTag();
+		customEnchantments = hasCustomEnchantments(stack.getItem());
+		stamp = getStamp(tag, customEnchantments);
+		for (Map.Entry<Enchantment, Integer> entry : stack.getAllEnchantments().entrySet()) {
+			levels.put(entry.getKey(), entry.getValue().intValue());
+			totalLevel += entry.getValue();
+		}
+	}
+
+	public static EnchantmentSummary of(ItemStack stack) {
+		return new EnchantmentSummary(stack);
+	}
+
+	public boolean isValidFor(ItemStack stack) {
+		CompoundTag stackTag = stack.getTag();
+		if (stackTag != tag) return false;
+		return getStamp(stackTag, customEnchantments) == stamp;
+	}
+
+	public int getCount() {
+		return levels.size();
+	}
+
+	public int getTotalLevel() {
+		return totalLevel;
+	}
+
+	public int getLevel(Enchantment enchantment) {
+		return levels.getInt(enchantment);
+	}
+
+	private static int getStamp(@Nullable CompoundTag tag, boolean customEnchantments) {
+		if (tag == null) return 0;
+		if (customEnchantments) return tag.hashCode();
+		Tag enchantmentsTag = tag.get(ItemStack.TAG_ENCH);
+		return enchantmentsTag == null ? 0 : enchantmentsTag.hashCode();
+	}
+
+	private static boolean hasCustomEnchantments(Item item) {
+		try {
+			Method method = item.getClass().getMethod("getAllEnchantments", ItemStack.class);
+			return method.getDeclaringClass() != IForgeItem.class;
+		} catch (NoSuchMethodException exception) {
+			return true;
+		}
+	}
+}
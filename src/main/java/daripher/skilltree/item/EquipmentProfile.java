@@ -0,0 +1,139 @@
+package daripher.skilltree.item;
+
+import daripher.skilltree.item.gem.GemHelper;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier.Operation;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Equipment data used by combat and attribute bonuses. Rebuilt only after the player's equipment
+ * changes, instead of reading enchantments and gems from item tags on every call.
+ */
+public class EquipmentProfile {
+	private static final EquipmentSlot[] SLOTS = EquipmentSlot.values();
+	private final ItemStack[] items = new ItemStack[SLOTS.length];
+	private final boolean[] enchanted = new boolean[SLOTS.length];
+	private final int[] enchantments = new int[SLOTS.length];
+	private final int[] gems = new int[SLOTS.length];
+	private final double[] armor = new double[SLOTS.length];
+	private int weaponEnchantmentLevels;
+	private boolean gemInWeapon;
+	private boolean weapon;
+	private boolean rangedWeapon;
+	private boolean shield;
+	private boolean dirty = true;
+
+	public void markDirty() {
+		dirty = true;
+	}
+
+	public EquipmentProfile update(Player player) {
+		if (dirty || itemsReplaced(player)) rebuild(player);
+		return this;
+	}
+
+	private boolean itemsReplaced(Player player) {
+		for (EquipmentSlot slot : SLOTS) {
+			if (player.getItemBySlot(slot) != items[slot.ordinal()]) return true;
+		}
+		return false;
+	}
+
+	private void rebuild(Player player) {
+		for (EquipmentSlot slot : SLOTS) {
+			int index = slot.ordinal();
+			ItemStack stack = player.getItemBySlot(slot);
+			items[index] = stack;
+			enchanted[index] = stack.isEnchanted();
+			enchantments[index] = enchanted[index] ? ItemHelper.getEnchantmentSummary(stack).getCount() : 0;
+			gems[index] = GemHelper.getGemsCount(stack);
+			armor[index] = slot.getType() == EquipmentSlot.Type.ARMOR ? getItemArmor(stack, slot) : 0D;
+		}
+		ItemStack mainHandItem = player.getMainHandItem();
+		weaponEnchantmentLevels = ItemHelper.getEnchantmentSummary(mainHandItem).getTotalLevel();
+		gemInWeapon = GemHelper.hasGem(mainHandItem, 0);
+		weapon = ItemHelper.isWeapon(mainHandItem);
+		rangedWeapon = ItemHelper.isRangedWeapon(mainHandItem);
+		shield = ItemHelper.isShield(player.getOffhandItem());
+		dirty = false;
+	}
+
+	private static double getItemArmor(ItemStack stack, EquipmentSlot slot) {
+		if (stack.isEmpty()) return 0D;
+		double armor = 0D;
+		for (AttributeModifier modifier : stack.getAttributeModifiers(slot).get(Attributes.ARMOR)) {
+			if (modifier.getOperation() == Operation.ADDITION) armor += modifier.getAmount();
+		}
+		return armor;
+	}
+
+	public boolean isEnchanted(EquipmentSlot slot) {
+		return enchanted[slot.ordinal()];
+	}
+
+	public boolean hasEnchantedItem() {
+		for (boolean slotEnchanted : enchanted) {
+			if (slotEnchanted) return true;
+		}
+		return false;
+	}
+
+	public int getEnchantments(EquipmentSlot slot) {
+		return enchantments[slot.ordinal()];
+	}
+
+	public int getEnchantments() {
+		int total = 0;
+		for (int slotEnchantments : enchantments) {
+			total += slotEnchantments;
+		}
+		return total;
+	}
+
+	public int getArmorEnchantments() {
+		int total = 0;
+		for (EquipmentSlot slot : SLOTS) {
+			if (slot.getType() == EquipmentSlot.Type.ARMOR) total += enchantments[slot.ordinal()];
+		}
+		return total;
+	}
+
+	public int getWeaponEnchantmentLevels() {
+		return weaponEnchantmentLevels;
+	}
+
+	public int getGems(EquipmentSlot slot) {
+		return gems[slot.ordinal()];
+	}
+
+	public int getArmorGems() {
+		int total = 0;
+		for (EquipmentSlot slot : SLOTS) {
+			if (slot.getType() == EquipmentSlot.Type.ARMOR) total += gems[slot.ordinal()];
+		}
+		return total;
+	}
+
+	public double getArmor(EquipmentSlot slot) {
+		return armor[slot.ordinal()];
+	}
+
+	public boolean hasGemInWeapon() {
+		return gemInWeapon;
+	}
+
+	public boolean hasWeapon() {
+		return weapon;
+	}
+
+	public boolean hasRangedWeapon() {
+		return rangedWeapon;
+	}
+
+	public boolean hasShield() {
+		return shield;
+	}
+}
@@ -0,0 +1,179 @@
+package daripher.skilltree.item;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import daripher.skilltree.SkillTreeMod;
+import daripher.skilltree.api.ItemCategoriesContainer;
+import daripher.skilltree.config.Config;
+import daripher.skilltree.init.PSTTags;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.ItemTags;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.item.ArmorItem;
+import net.minecraft.world.item.AxeItem;
+import net.minecraft.world.item.BowItem;
+import net.minecraft.world.item.CrossbowItem;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.PickaxeItem;
+import net.minecraft.world.item.ShieldItem;
+import net.minecraft.world.item.SwordItem;
+import net.minecraft.world.item.TridentItem;
+import net.minecraftforge.common.Tags;
+import net.minecraftforge.common.ToolAction;
+import net.minecraftforge.common.ToolActions;
+import net.minecraftforge.common.extensions.IForgeItem;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.registries.ForgeRegistries;
+
+/**
+ * Category bitmask of every item, stored on the item itself. Built from tags, config and item
+ * classes, so it is rebuilt when tags are loaded and when the config is reloaded. Tool actions can
+ * depend on the stack, so they are still checked on the stack, but only for items that override
+ * {@link IForgeItem#canPerformAction}.
+ */
+@EventBusSubscriber(modid = SkillTreeMod.MOD_ID)
+public class ItemCategories {
+	public static final int HELMET = 1;
+	public static final int CHESTPLATE = 1 << 1;
+	public static final int LEGGINGS = 1 << 2;
+	public static final int BOOTS = 1 << 3;
+	public static final int ARMOR = 1 << 4;
+	public static final int SHIELD = 1 << 5;
+	public static final int SWORD = 1 << 6;
+	public static final int AXE = 1 << 7;
+	public static final int TRIDENT = 1 << 8;
+	public static final int MELEE_WEAPON = 1 << 9;
+	public static final int BOW = 1 << 10;
+	public static final int CROSSBOW = 1 << 11;
+	public static final int RANGED_WEAPON = 1 << 12;
+	public static final int PICKAXE = 1 << 13;
+	public static final int RING = 1 << 14;
+	public static final int NECKLACE = 1 << 15;
+	public static final int QUIVER = 1 << 16;
+	public static final int ARROW = 1 << 17;
+	public static final int WEAPON = MELEE_WEAPON | RANGED_WEAPON;
+	public static final int EQUIPMENT = WEAPON | ARMOR | SHIELD | PICKAXE;
+	public static final int JEWELRY = RING | NECKLACE;
+	// categories that can also come from tool actions
+	private static final int TOOL_ACTION_CATEGORIES = SHIELD | SWORD | AXE | MELEE_WEAPON | PICKAXE;
+	// set for items that override canPerformAction, their tool actions are checked per stack
+	private static final int HAS_TOOL_ACTIONS = 1 << 30;
+	// set on every computed mask, so items that weren't computed yet can be told apart
+	private static final int COMPUTED = 1 << 31;
+
+	@SubscribeEvent
+	public static void rebuildOnTagsUpdate(TagsUpdatedEvent event) {
+		rebuild();
+	}
+
+	public static void rebuild() {
+		ForgeRegistries.ITEMS.forEach(item -> ((ItemCategoriesContainer) item).setItemCategories(compute(item)));
+	}
+
+	public static boolean is(ItemStack stack, int categories) {
+		int itemCategories = get(stack.getItem());
+		if ((itemCategories & categories) != 0) return true;
+		if ((itemCategories & HAS_TOOL_ACTIONS) == 0 || (categories & TOOL_ACTION_CATEGORIES) == 0) return false;
+		return (getToolActionCategories(stack) & categories) != 0;
+	}
+
+	private static int getToolActionCategories(ItemStack stack) {
+		int categories = 0;
+		if (stack.canPerformAction(ToolActions.SHIELD_BLOCK)) categories |= SHIELD;
+		if (stack.canPerformAction(ToolActions.SWORD_DIG) || stack.canPerformAction(ToolActions.SWORD_SWEEP)) categories |= SWORD | MELEE_WEAPON;
+		if (stack.canPerformAction(ToolActions.AXE_DIG)) categories |= AXE | MELEE_WEAPON;
+		if (stack.canPerformAction(ToolActions.PICKAXE_DIG)) categories |= PICKAXE;
+		return categories;
+	}
+
+	public static int get(Item item) {
+		ItemCategoriesContainer container = (ItemCategoriesContainer) item;
+		int categories = container.getItemCategories();
+		if (categories == 0) {
+			categories = compute(item);
+			container.setItemCategories(categories);
+		}
+		return categories;
+	}
+
+	private static int compute(Item item) {
+		ItemStack stack = item.getDefaultInstance();
+		int categories = COMPUTED;
+		if (stack.isEmpty()) return categories;
+		ResourceLocation id = ForgeRegistries.ITEMS.getKey(item);
+		String itemId = id == null ? "" : id.toString();
+		if (isForced(Config.forced_helmets, item) || isArmor(item, EquipmentSlot.HEAD) || stack.is(Tags.Items.ARMORS_HELMETS)) {
+			categories |= HELMET;
+		}
+		if (isForced(Config.forced_chestplates, item) || isArmor(item, EquipmentSlot.CHEST) || stack.is(Tags.Items.ARMORS_CHESTPLATES)) {
+			categories |= CHESTPLATE;
+		}
+		if (isForced(Config.forced_leggings, item) || isArmor(item, EquipmentSlot.LEGS) || stack.is(Tags.Items.ARMORS_LEGGINGS)) {
+			categories |= LEGGINGS;
+		}
+		if (isForced(Config.forced_boots, item) || isArmor(item, EquipmentSlot.FEET) || stack.is(Tags.Items.ARMORS_BOOTS)) {
+			categories |= BOOTS;
+		}
+		if ((categories & (HELMET | CHESTPLATE | LEGGINGS | BOOTS)) != 0 || stack.is(Tags.Items.ARMORS)) {
+			categories |= ARMOR;
+		}
+		if (isForced(Config.forced_shields, item) || item instanceof ShieldItem
+				|| stack.is(Tags.Items.TOOLS_SHIELDS)) {
+			categories |= SHIELD;
+		}
+		if (itemId.equals("tetra:modular_sword") || item instanceof SwordItem || stack.is(Tags.Items.TOOLS_SWORDS)) {
+			categories |= SWORD;
+		}
+		if (item instanceof AxeItem || stack.is(Tags.Items.TOOLS_AXES)) {
+			categories |= AXE;
+		}
+		if (itemId.equals("tetra:modular_single") || item instanceof TridentItem || stack.is(Tags.Items.TOOLS_TRIDENTS)) {
+			categories |= TRIDENT;
+		}
+		if (isForced(Config.forced_melee_weapon, item) || (categories & (SWORD | AXE | TRIDENT)) != 0) {
+			categories |= MELEE_WEAPON;
+		}
+		if (itemId.equals("tetra:modular_bow") || item instanceof BowItem || stack.is(Tags.Items.TOOLS_BOWS)) {
+			categories |= BOW;
+		}
+		if (itemId.equals("tetra:modular_crossbow") || item instanceof CrossbowItem || stack.is(Tags.Items.TOOLS_CROSSBOWS)) {
+			categories |= CROSSBOW;
+		}
+		if (isForced(Config.forced_ranged_weapon, item) || (categories & (BOW | CROSSBOW)) != 0) {
+			categories |= RANGED_WEAPON;
+		}
+		if (item instanceof PickaxeItem || stack.is(Tags.Items.TOOLS_PICKAXES)) {
+			categories |= PICKAXE;
+		}
+		if (stack.is(PSTTags.RINGS)) categories |= RING;
+		if (stack.is(PSTTags.NECKLACES)) categories |= NECKLACE;
+		if (stack.is(PSTTags.QUIVERS)) categories |= QUIVER;
+		if (stack.is(ItemTags.ARROWS)) categories |= ARROW;
+		if (overridesCanPerformAction(item)) categories |= HAS_TOOL_ACTIONS;
+		return categories;
+	}
+
+	private static boolean overridesCanPerformAction(Item item) {
+		try {
+			Method method = item.getClass().getMethod("canPerformAction", ItemStack.class, ToolAction.class);
+			return method.getDeclaringClass() != IForgeItem.class;
+		} catch (NoSuchMethodException exception) {
+			return true;
+		}
+	}
+
+	private static boolean isArmor(Item item, EquipmentSlot slot) {
+		return item instanceof ArmorItem armor && armor.getSlot() == slot;
+	}
+
+	private static boolean isForced(@Nullable Set<Item> forcedItems, Item item) {
+		// config may not be loaded yet when items are first classified
+		return forcedItems != null && forcedItems.contains(item);
+	}
+}
@@ -3,31 +3,20 @@ package daripher.skilltree.item;
 import java.util.ArrayList;
 import java.util.List;
 
-import daripher.skilltree.compat.apotheosis.ApotheosisCompatibility;
+import daripher.skilltree.api.DurabilityBonusContainer;
+import daripher.skilltree.api.EnchantmentSummaryContainer;
 import daripher.skilltree.config.Config;
-import daripher.skilltree.init.PSTTags;
+import daripher.skilltree.item.gem.GemHelper;
 import daripher.skilltree.potion.PotionHelper;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.tags.ItemTags;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.item.ArmorItem;
-import net.minecraft.world.item.AxeItem;
-import net.minecraft.world.item.BowItem;
-import net.minecraft.world.item.CrossbowItem;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.PickaxeItem;
 import net.minecraft.world.item.PotionItem;
-import net.minecraft.world.item.ShieldItem;
-import net.minecraft.world.item.SwordItem;
-import net.minecraft.world.item.TridentItem;
 import net.minecraft.world.item.alchemy.PotionUtils;
-import net.minecraftforge.common.Tags;
-import net.minecraftforge.common.ToolActions;
-import net.minecraftforge.fml.ModList;
 import net.minecraftforge.registries.ForgeRegistries;
 
 public class ItemHelper {
@@ -52,8 +41,14 @@ public class ItemHelper {
 	public static final String ADDITIONAL_SOCKETS = "AdditionalSocksetsBonus";
 	public static final String CHANCE_TO_RETRIEVE_ARROWS = "ChanceToRetrieveArrowsBonus";
 
+	public static EnchantmentSummary getEnchantmentSummary(ItemStack stack) {
+		return ((EnchantmentSummaryContainer) (Object) stack).getEnchantmentSummary();
+	}
+
 	public static void setBonus(ItemStack stack, String type, double bonus) {
 		stack.getOrCreateTag().putDouble(type, bonus);
+		// the tag is changed in place, so the memoized bonus has to be dropped here
+		if (type.equals(DURABILITY)) ((DurabilityBonusContainer) (Object) stack).resetDurabilityBonus();
 	}
 
 	public static boolean hasBonus(ItemStack stack, String type) {
@@ -65,9 +60,7 @@ public class ItemHelper {
 	}
 
 	public static boolean canInsertGem(ItemStack stack) {
-		if (ModList.get().isLoaded("apotheosis")) {
-			if (ApotheosisCompatibility.ISNTANCE.adventureModuleEnabled()) return false;
-		}
+		if (!GemHelper.areGemsEnabled()) return false;
 		return hasSockets(stack);
 	}
 
@@ -135,83 +128,63 @@ public class ItemHelper {
 	}
 
 	public static boolean isArmor(ItemStack stack) {
-		return isHelmet(stack) || isChestplate(stack) || isLeggings(stack) || isBoots(stack) || stack.is(Tags.Items.ARMORS);
+		return ItemCategories.is(stack, ItemCategories.ARMOR);
 	}
 
 	public static boolean isShield(ItemStack stack) {
-		if (stack.canPerformAction(ToolActions.SHIELD_BLOCK)) return true;
-		if (Config.forced_shields.contains(stack.getItem())) return true;
-		return stack.getItem() instanceof ShieldItem || stack.is(Tags.Items.TOOLS_SHIELDS);
+		return ItemCategories.is(stack, ItemCategories.SHIELD);
 	}
 
 	public static boolean isMeleeWeapon(ItemStack stack) {
-		if (Config.forced_melee_weapon.contains(stack.getItem())) return true;
-		return isSword(stack) || isAxe(stack) || isTrident(stack);
+		return ItemCategories.is(stack, ItemCategories.MELEE_WEAPON);
 	}
 
 	public static boolean isRangedWeapon(ItemStack stack) {
-		if (Config.forced_ranged_weapon.contains(stack.getItem())) return true;
-		return isCrossbow(stack) || isBow(stack);
+		return ItemCategories.is(stack, ItemCategories.RANGED_WEAPON);
 	}
 
 	public static boolean isCrossbow(ItemStack stack) {
-		if (ForgeRegistries.ITEMS.getKey(stack.getItem()).toString().equals("tetra:modular_crossbow")) return true;
-		return stack.getItem() instanceof CrossbowItem || stack.is(Tags.Items.TOOLS_CROSSBOWS);
+		return ItemCategories.is(stack, ItemCategories.CROSSBOW);
 	}
 
 	public static boolean isBow(ItemStack stack) {
-		if (ForgeRegistries.ITEMS.getKey(stack.getItem()).toString().equals("tetra:modular_bow")) return true;
-		return stack.getItem() instanceof BowItem || stack.is(Tags.Items.TOOLS_BOWS);
+		return ItemCategories.is(stack, ItemCategories.BOW);
 	}
 
 	public static boolean isTrident(ItemStack stack) {
-		if (ForgeRegistries.ITEMS.getKey(stack.getItem()).toString().equals("tetra:modular_single")) return true;
-		return stack.getItem() instanceof TridentItem || stack.is(Tags.Items.TOOLS_TRIDENTS);
+		return ItemCategories.is(stack, ItemCategories.TRIDENT);
 	}
 
 	public static boolean isAxe(ItemStack itemStack) {
-		if (itemStack.canPerformAction(ToolActions.AXE_DIG)) return true;
-		return itemStack.getItem() instanceof AxeItem || itemStack.is(Tags.Items.TOOLS_AXES);
+		return ItemCategories.is(itemStack, ItemCategories.AXE);
 	}
 
 	public static boolean isSword(ItemStack itemStack) {
-		if (ForgeRegistries.ITEMS.getKey(itemStack.getItem()).toString().equals("tetra:modular_sword")) return true;
-		if (itemStack.canPerformAction(ToolActions.SWORD_DIG)) return true;
-		if (itemStack.canPerformAction(ToolActions.SWORD_SWEEP)) return true;
-		return itemStack.getItem() instanceof SwordItem || itemStack.is(Tags.Items.TOOLS_SWORDS);
+		return ItemCategories.is(itemStack, ItemCategories.SWORD);
 	}
-	
+
 	public static boolean isWeapon(ItemStack stack) {
-		return isMeleeWeapon(stack) || isRangedWeapon(stack);
+		return ItemCategories.is(stack, ItemCategories.WEAPON);
 	}
 
 	public static boolean isHelmet(ItemStack stack) {
-		if (Config.forced_helmets.contains(stack.getItem())) return true;
-		if (stack.getItem() instanceof ArmorItem armor && armor.getSlot() == EquipmentSlot.HEAD) return true;
-		return stack.is(Tags.Items.ARMORS_HELMETS);
+		return ItemCategories.is(stack, ItemCategories.HELMET);
 	}
 
 	public static boolean isChestplate(ItemStack stack) {
-		if (Config.forced_chestplates.contains(stack.getItem())) return true;
-		if (stack.getItem() instanceof ArmorItem armor && armor.getSlot() == EquipmentSlot.CHEST) return true;
-		return stack.is(Tags.Items.ARMORS_CHESTPLATES);
+		return ItemCategories.is(stack, ItemCategories.CHESTPLATE);
 	}
 
 	public static boolean isLeggings(ItemStack stack) {
-		if (Config.forced_leggings.contains(stack.getItem())) return true;
-		if (stack.getItem() instanceof ArmorItem armor && armor.getSlot() == EquipmentSlot.LEGS) return true;
-		return stack.is(Tags.Items.ARMORS_LEGGINGS);
+		return ItemCategories.is(stack, ItemCategories.LEGGINGS);
 	}
 
 	public static boolean isBoots(ItemStack stack) {
-		if (Config.forced_boots.contains(stack.getItem())) return true;
-		if (stack.getItem() instanceof ArmorItem armor && armor.getSlot() == EquipmentSlot.FEET) return true;
-		return stack.is(Tags.Items.ARMORS_BOOTS);
+		return ItemCategories.is(stack, ItemCategories.BOOTS);
 	}
 
 	public static boolean isPickaxe(ItemStack stack) {
-		if (stack.canPerformAction(ToolActions.PICKAXE_DIG)) return true;
-		return stack.getItem() instanceof PickaxeItem || stack.is(Tags.Items.TOOLS_PICKAXES);
+		return ItemCategories.is(stack, ItemCategories.PICKAXE);
 	}
 
 	public static boolean isFood(ItemStack stack) {
@@ -219,27 +192,27 @@ public class ItemHelper {
 	}
 
 	public static boolean isEquipment(ItemStack stack) {
-		return isWeapon(stack) || isArmor(stack) || isShield(stack) || isPickaxe(stack);
+		return ItemCategories.is(stack, ItemCategories.EQUIPMENT);
 	}
 
 	public static boolean isJewelry(ItemStack stack) {
-		return isRing(stack) || isNecklace(stack);
+		return ItemCategories.is(stack, ItemCategories.JEWELRY);
 	}
 
 	public static boolean isRing(ItemStack stack) {
-		return !stack.isEmpty() && stack.is(PSTTags.RINGS);
+		return ItemCategories.is(stack, ItemCategories.RING);
 	}
 
 	public static boolean isNecklace(ItemStack stack) {
-		return !stack.isEmpty() && stack.is(PSTTags.NECKLACES);
+		return ItemCategories.is(stack, ItemCategories.NECKLACE);
 	}
 
 	public static boolean isQuiver(ItemStack stack) {
-		return !stack.isEmpty() && stack.is(PSTTags.QUIVERS);
+		return ItemCategories.is(stack, ItemCategories.QUIVER);
 	}
 
 	public static boolean isArrow(ItemStack stack) {
-		return stack.is(ItemTags.ARROWS);
+		return ItemCategories.is(stack, ItemCategories.ARROW);
 	}
 
 	public static List<String> getBonuses() {
@@ -40,7 +40,6 @@ import net.minecraftforge.event.entity.player.ItemTooltipEvent;
 import net.minecraftforge.event.level.BlockEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
-import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber.Bus;
 import top.theillusivec4.curios.api.SlotContext;
@@ -52,30 +51,27 @@ public class GemBonusHandler {
 	@SubscribeEvent
 	public static void applyGemBonuses(ItemAttributeModifierEvent event) {
 		if (!ItemHelper.canInsertGem(event.getItemStack())) return;
-		int socket = 0;
-		while (GemHelper.hasGem(event.getItemStack(), socket)) {
-			applyGemBonus(event, socket);
-			socket++;
+		SocketData sockets = GemHelper.getSocketData(event.getItemStack());
+		for (int socket = 0; socket < sockets.getGemsCount(); socket++) {
+			applyGemBonus(event, sockets, socket);
 		}
 	}
 
 	@SubscribeEvent
 	public static void applyGemBonuses(CurioAttributeModifierEvent event) {
 		if (!ItemHelper.canInsertGem(event.getItemStack())) return;
-		int socket = 0;
-		while (GemHelper.hasGem(event.getItemStack(), socket)) {
-			applyGemBonus(event, socket);
-			socket++;
+		SocketData sockets = GemHelper.getSocketData(event.getItemStack());
+		for (int socket = 0; socket < sockets.getGemsCount(); socket++) {
+			applyGemBonus(event, sockets, socket);
 		}
 	}
 
 	@SubscribeEvent(priority = EventPriority.LOWEST)
 	public static void removeDuplicateTooltips(ItemTooltipEvent event) {
 		if (!ItemHelper.canInsertGem(event.getItemStack())) return;
-		int socket = 0;
-		while (GemHelper.hasGem(event.getItemStack(), socket)) {
-			removeGemTooltip(event, socket);
-			socket++;
+		SocketData sockets = GemHelper.getSocketData(event.getItemStack());
+		for (int socket = 0; socket < sockets.getGemsCount(); socket++) {
+			removeGemTooltip(event, sockets, socket);
 		}
 	}
 
@@ -100,13 +96,11 @@ public class GemBonusHandler {
 		if (player.getRandom().nextFloat() >= dropChance) return;
 		var usingCorrectTool = ForgeHooks.isCorrectToolForDrops(event.getState(), player);
 		if (!usingCorrectTool) return;
-		var hasSilkTouch = player.getMainHandItem().getEnchantmentLevel(Enchantments.SILK_TOUCH) > 0;
+		var hasSilkTouch = ItemHelper.getEnchantmentSummary(player.getMainHandItem()).getLevel(Enchantments.SILK_TOUCH) > 0;
 		if (hasSilkTouch) return;
-		if (ModList.get().isLoaded("apotheosis")) {
-			if (ApotheosisCompatibility.ISNTANCE.adventureModuleEnabled()) {
-				ApotheosisCompatibility.ISNTANCE.dropGemFromOre(player, (ServerLevel) level, blockPos);
-				return;
-			}
+		if (!GemHelper.areGemsEnabled()) {
+			ApotheosisCompatibility.ISNTANCE.dropGemFromOre(player, (ServerLevel) level, blockPos);
+			return;
 		}
 		var serverLevel = (ServerLevel) level;
 		var lootTable = serverLevel.getServer().getLootTables().get(new ResourceLocation(SkillTreeMod.MOD_ID, "gems"));
@@ -121,30 +115,29 @@ public class GemBonusHandler {
 		lootTable.getRandomItems(lootContext).forEach(item -> Block.popResource(level, blockPos, item));
 	}
 
-	private static void applyGemBonus(ItemAttributeModifierEvent event, int socket) {
+	private static void applyGemBonus(ItemAttributeModifierEvent event, SocketData sockets, int socket) {
 		ItemStack itemStack = event.getItemStack();
 		if (itemStack.getItem() instanceof ICurioItem) return;
 		EquipmentSlot slot = ItemHelper.getSlotForItem(itemStack);
 		if (slot != event.getSlotType()) return;
-		Optional<Pair<Attribute, AttributeModifier>> bonus = GemHelper.getAttributeBonus(itemStack, socket);
+		Optional<Pair<Attribute, AttributeModifier>> bonus = sockets.getAttributeBonus(socket);
 		if (!bonus.isPresent()) return;
 		event.addModifier(bonus.get().getLeft(), bonus.get().getRight());
 	}
 
-	private static void applyGemBonus(CurioAttributeModifierEvent event, int socket) {
+	private static void applyGemBonus(CurioAttributeModifierEvent event, SocketData sockets, int socket) {
 		ItemStack itemStack = event.getItemStack();
 		if (!(itemStack.getItem() instanceof ICurioItem curio)) return;
 		if (!curio.canEquip(event.getSlotContext(), itemStack)) return;
-		Optional<Pair<Attribute, AttributeModifier>> bonus = GemHelper.getAttributeBonus(itemStack, socket);
+		Optional<Pair<Attribute, AttributeModifier>> bonus = sockets.getAttributeBonus(socket);
 		if (!bonus.isPresent()) return;
 		event.addModifier(bonus.get().getLeft(), bonus.get().getRight());
 	}
 
-	private static void removeGemTooltip(ItemTooltipEvent event, int socket) {
-		ItemStack stack = event.getItemStack();
-		Optional<GemItem> gem = GemHelper.getGem(stack, socket);
+	private static void removeGemTooltip(ItemTooltipEvent event, SocketData sockets, int socket) {
+		Optional<GemItem> gem = sockets.getGem(socket);
 		if (gem.isEmpty()) return;
-		Optional<Pair<Attribute, AttributeModifier>> bonus = GemHelper.getAttributeBonus(stack, socket);
+		Optional<Pair<Attribute, AttributeModifier>> bonus = sockets.getAttributeBonus(socket);
 		if (!bonus.isPresent()) return;
 		removeTooltip(event.getToolTip(), TooltipHelper.getAttributeBonusTooltip(bonus.get(), false));
 	}
@@ -11,47 +11,65 @@ import org.slf4j.Logger;
 
 import com.mojang.logging.LogUtils;
 
-import daripher.skilltree.api.HasAdditionalSockets;
 import daripher.skilltree.compat.apotheosis.ApotheosisCompatibility;
+import daripher.skilltree.compat.apotheosis.ApotheosisSocketBackend;
 import daripher.skilltree.init.PSTAttributes;
 import daripher.skilltree.item.ItemHelper;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
-import net.minecraft.resources.ResourceLocation;
+import net.minecraft.nbt.Tag;
 import net.minecraft.world.entity.ai.attributes.Attribute;
 import net.minecraft.world.entity.ai.attributes.AttributeModifier;
 import net.minecraft.world.entity.ai.attributes.AttributeModifier.Operation;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.registries.ForgeRegistries;
 
 public class GemHelper {
 	private static final Logger LOGGER = LogUtils.getLogger();
-	protected static final String GEMS_TAG = "GEMSTONES";
-	protected static final String GEM_TAG = "GEMSTONE";
-	protected static final String ATTRIBUTE_TAG = "ATTRIBUTE";
-	protected static final String AMOUNT_TAG = "AMOUNT";
-	protected static final String OPERATION_TAG = "OPERATION";
-	protected static final String ADDITIONAL_GEMS_TAG = "ADDITIONAL_GEMSTONES";
-	protected static final String UUID_TAG = "ID";
+	protected static final String GEMS_TAG = "Gems";
+	protected static final String VERSION_TAG = "Version";
+	protected static final String SOCKETS_TAG = "Sockets";
+	protected static final String GEM_TAG = "Gem";
+	protected static final String ATTRIBUTE_TAG = "Attribute";
+	protected static final String OPERATION_TAG = "Operation";
+	protected static final String AMOUNT_TAG = "Amount";
+	protected static final String UUID_TAG = "UUID";
+	protected static final int GEMS_VERSION = 1;
+	// format used before gems were versioned, only read for migration
+	protected static final String LEGACY_GEMS_TAG = "GEMSTONES";
+	private static final String LEGACY_GEM_TAG = "GEMSTONE";
+	private static final String LEGACY_ATTRIBUTE_TAG = "ATTRIBUTE";
+	private static final String LEGACY_AMOUNT_TAG = "AMOUNT";
+	private static final String LEGACY_OPERATION_TAG = "OPERATION";
+	private static final String LEGACY_UUID_TAG = "ID";
+	private static final SocketBackend BACKEND = createBackend();
 
 	public static boolean hasGem(ItemStack stack, int socket) {
-		if (ModList.get().isLoaded("apotheosis")) {
-			if (ApotheosisCompatibility.ISNTANCE.adventureModuleEnabled()) return false;
+		return getSocketData(stack).hasGem(socket);
+	}
+
+	/**
+	 * @return decoded gems of the stack, cached until its tag changes
+	 */
+	public static SocketData getSocketData(ItemStack stack) {
+		return BACKEND.getSocketData(stack);
+	}
+
+	public static boolean areGemsEnabled() {
+		return BACKEND.areGemsEnabled();
+	}
+
+	private static SocketBackend createBackend() {
+		// mods are constructed before the first gem query, so the adventure module setting is known here
+		if (ModList.get().isLoaded("apotheosis") && ApotheosisCompatibility.ISNTANCE.adventureModuleEnabled()) {
+			return new ApotheosisSocketBackend();
 		}
-		if (!stack.hasTag()) return false;
-		if (!stack.getTag().contains(GEMS_TAG)) return false;
-		ListTag gems = getGemsListTag(stack);
-		if (gems.size() <= socket) return false;
-		return gems.get(socket) != null;
+		return new NativeSocketBackend();
 	}
 
 	public static void insertGem(Player player, ItemStack stack, GemItem gem, int socket, double power) {
-		CompoundTag gemTag = new CompoundTag();
-		ListTag gemsTagList = getGemsListTag(stack);
-		if (gemsTagList.size() > socket) gemTag = gemsTagList.getCompound(socket);
 		Optional<Pair<Attribute, AttributeModifier>> optionalBonus = gem.getGemBonus(player, stack);
 		if (!optionalBonus.isPresent()) {
 			LOGGER.error("Cannot insert gem into {}", stack.getItem());
@@ -59,87 +77,98 @@ public class GemHelper {
 			return;
 		}
 		Pair<Attribute, AttributeModifier> bonus = optionalBonus.get();
-		gemTag.putString(GEM_TAG, ForgeRegistries.ITEMS.getKey(gem).toString());
-		gemTag.putString(ATTRIBUTE_TAG, ForgeRegistries.ATTRIBUTES.getKey(bonus.getLeft()).toString());
-		gemTag.putDouble(AMOUNT_TAG, bonus.getRight().getAmount() * (1 + power));
-		gemTag.putString(OPERATION_TAG, bonus.getRight().getOperation().toString());
-		gemTag.putString(UUID_TAG, UUID.randomUUID().toString());
-		gemsTagList.add(socket, gemTag);
-		stack.getTag().put(GEMS_TAG, gemsTagList);
+		String gemId = ForgeRegistries.ITEMS.getKey(gem).toString();
+		String attributeId = ForgeRegistries.ATTRIBUTES.getKey(bonus.getLeft()).toString();
+		Operation operation = bonus.getRight().getOperation();
+		double amount = bonus.getRight().getAmount() * (1 + power);
+		ListTag socketsTag = getSocketsTag(stack);
+		socketsTag.add(socket, createGemTag(gemId, attributeId, operation, amount, UUID.randomUUID()));
+	}
+
+	private static CompoundTag createGemTag(String gemId, String attributeId, Operation operation, double amount, UUID id) {
+		CompoundTag gemTag = new CompoundTag();
+		gemTag.putString(GEM_TAG, gemId);
+		gemTag.putString(ATTRIBUTE_TAG, attributeId);
+		gemTag.putByte(OPERATION_TAG, (byte) operation.ordinal());
+		gemTag.putFloat(AMOUNT_TAG, (float) amount);
+		gemTag.putUUID(UUID_TAG, id);
+		return gemTag;
+	}
+
+	private static ListTag getSocketsTag(ItemStack stack) {
+		CompoundTag tag = stack.getOrCreateTag();
+		migrateLegacyGems(tag);
+		if (!tag.contains(GEMS_TAG, Tag.TAG_COMPOUND)) {
+			CompoundTag gemsTag = new CompoundTag();
+			gemsTag.putByte(VERSION_TAG, (byte) GEMS_VERSION);
+			gemsTag.put(SOCKETS_TAG, new ListTag());
+			tag.put(GEMS_TAG, gemsTag);
+		}
+		CompoundTag gemsTag = tag.getCompound(GEMS_TAG);
+		if (!gemsTag.contains(SOCKETS_TAG, Tag.TAG_LIST)) gemsTag.put(SOCKETS_TAG, new ListTag());
+		return gemsTag.getList(SOCKETS_TAG, Tag.TAG_COMPOUND);
+	}
+
+	/**
+	 * Rewrites gems stored in the legacy format. Called when a stack is loaded, and on the first read
+	 * of gems set directly, like in commands.
+	 */
+	public static void migrateLegacyGems(@Nullable CompoundTag tag) {
+		if (tag == null || !tag.contains(LEGACY_GEMS_TAG)) return;
+		ListTag legacyGems = tag.getList(LEGACY_GEMS_TAG, Tag.TAG_COMPOUND);
+		tag.remove(LEGACY_GEMS_TAG);
+		if (tag.contains(GEMS_TAG)) return;
+		ListTag socketsTag = new ListTag();
+		for (int socket = 0; socket < legacyGems.size(); socket++) {
+			CompoundTag legacyGem = legacyGems.getCompound(socket);
+			Operation operation = getLegacyOperation(legacyGem);
+			String gemId = legacyGem.getString(LEGACY_GEM_TAG);
+			String attributeId = legacyGem.getString(LEGACY_ATTRIBUTE_TAG);
+			String uuid = legacyGem.getString(LEGACY_UUID_TAG);
+			// the migrated tag is saved with the stack, so a new id stays the same from now on
+			UUID id = uuid.isEmpty() ? UUID.randomUUID() : UUID.fromString(uuid);
+			double amount = legacyGem.getDouble(LEGACY_AMOUNT_TAG);
+			socketsTag.add(createGemTag(gemId, attributeId, operation, amount, id));
+		}
+		CompoundTag gemsTag = new CompoundTag();
+		gemsTag.putByte(VERSION_TAG, (byte) GEMS_VERSION);
+		gemsTag.put(SOCKETS_TAG, socketsTag);
+		tag.put(GEMS_TAG, gemsTag);
+	}
+
+	private static Operation getLegacyOperation(CompoundTag legacyGem) {
+		try {
+			return Operation.valueOf(legacyGem.getString(LEGACY_OPERATION_TAG));
+		} catch (IllegalArgumentException exception) {
+			return Operation.ADDITION;
+		}
 	}
 
 	public static void removeGems(ItemStack itemStack) {
 		itemStack.getTag().remove(GEMS_TAG);
+		itemStack.getTag().remove(LEGACY_GEMS_TAG);
 	}
 
 	public static Optional<Pair<Attribute, AttributeModifier>> getAttributeBonus(ItemStack itemStack, int socket) {
-		if (!GemHelper.hasGem(itemStack, socket)) return Optional.empty();
-		CompoundTag gemTag = (CompoundTag) getGemsListTag(itemStack).get(socket);
-		if (gemTag == null) return Optional.empty();
-		String attributeId = gemTag.getString(ATTRIBUTE_TAG);
-		if (attributeId.isEmpty()) return Optional.empty();
-		Attribute attribute = ForgeRegistries.ATTRIBUTES.getValue(new ResourceLocation(attributeId));
-		if (attribute == null) return Optional.empty();
-		Operation operation = Operation.valueOf(gemTag.getString(OPERATION_TAG));
-		if (operation == null) return Optional.empty();
-		double amount = gemTag.getDouble(AMOUNT_TAG);
-		if (amount == 0) return Optional.empty();
-		if (!gemTag.contains(UUID_TAG)) gemTag.putString(UUID_TAG, UUID.randomUUID().toString());
-		UUID id = UUID.fromString(gemTag.getString(UUID_TAG));
-		return Optional.of(Pair.of(attribute, new AttributeModifier(id, "Gem Bonus", amount, operation)));
+		return getSocketData(itemStack).getAttributeBonus(socket);
 	}
 
 	public static Optional<GemItem> getGem(ItemStack itemStack, int socket) {
-		if (ModList.get().isLoaded("apotheosis")) {
-			if (ApotheosisCompatibility.ISNTANCE.adventureModuleEnabled()) return Optional.empty();
-		}
-		if (!hasGem(itemStack, socket)) return Optional.empty();
-		CompoundTag gemTag = (CompoundTag) getGemsListTag(itemStack).get(socket);
-		String gemId = gemTag.getString(GEM_TAG);
-		Item item = ForgeRegistries.ITEMS.getValue(new ResourceLocation(gemId));
-		if (!(item instanceof GemItem gem)) return Optional.empty();
-		return Optional.of(gem);
+		return getSocketData(itemStack).getGem(socket);
 	}
 
 	public static int getGemsCount(ItemStack itemStack) {
-		if (ModList.get().isLoaded("apotheosis")) {
-			return ApotheosisCompatibility.ISNTANCE.getGemsCount(itemStack);
-		}
-		if (itemStack.isEmpty()) return 0;
-		int gemsCount = 0;
-		int socket = 0;
-		while (hasGem(itemStack, socket)) {
-			gemsCount++;
-			socket++;
-		}
-		return gemsCount;
+		return BACKEND.getGemsCount(itemStack);
 	}
 
 	public static int getEmptySockets(@NotNull ItemStack itemStack, @Nullable Player player) {
-		if (ModList.get().isLoaded("apotheosis")) {
-			if (ApotheosisCompatibility.ISNTANCE.adventureModuleEnabled()) return 0;
-		}
+		if (!areGemsEnabled()) return 0;
 		int sockets = getMaximumSockets(itemStack, player);
-		int emptySockets = sockets;
-		for (int socket = 0; socket < sockets; socket++) {
-			if (hasGem(itemStack, socket)) emptySockets--;
-		}
-		return emptySockets;
+		return sockets - Math.min(sockets, getSocketData(itemStack).getGemsCount());
 	}
 
 	public static int getMaximumSockets(ItemStack stack, @Nullable Player player) {
-		if (ModList.get().isLoaded("apotheosis")) {
-			if (ApotheosisCompatibility.ISNTANCE.adventureModuleEnabled()) return 0;
-		}
-		int sockets = ItemHelper.getDefaultSockets(stack);
-		if (ItemHelper.hasBonus(stack, ItemHelper.ADDITIONAL_SOCKETS)) {
-			sockets += ItemHelper.getBonus(stack, ItemHelper.ADDITIONAL_SOCKETS);
-		}
-		if (stack.getItem() instanceof HasAdditionalSockets) {
-			sockets += ((HasAdditionalSockets) stack.getItem()).getAdditionalSockets();
-		}
-		if (player != null) sockets += getPlayerSockets(stack, player);
-		return sockets;
+		return BACKEND.getMaximumSockets(stack, player);
 	}
 
 	public static int getPlayerSockets(ItemStack stack, Player player) {
@@ -158,8 +187,4 @@ public class GemHelper {
 		}
 		return sockets;
 	}
-
-	protected static ListTag getGemsListTag(ItemStack itemStack) {
-		return itemStack.getOrCreateTag().getList(GEMS_TAG, new CompoundTag().getId());
-	}
 }
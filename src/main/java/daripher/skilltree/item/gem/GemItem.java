@@ -5,7 +5,6 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.tuple.Pair;
 
-import daripher.skilltree.compat.apotheosis.ApotheosisCompatibility;
 import daripher.skilltree.init.PSTCreativeTabs;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
@@ -17,7 +16,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.level.Level;
-import net.minecraftforge.fml.ModList;
 
 public abstract class GemItem extends Item {
 	public GemItem() {
@@ -26,11 +24,9 @@ public abstract class GemItem extends Item {
 
 	@Override
 	public void appendHoverText(ItemStack itemStack, Level level, List<Component> components, TooltipFlag tooltipFlag) {
-		if (ModList.get().isLoaded("apotheosis")) {
-			if (ApotheosisCompatibility.ISNTANCE.adventureModuleEnabled()) {
-				components.add(Component.translatable("gem.disabled").withStyle(ChatFormatting.RED));
-				return;
-			}
+		if (!GemHelper.areGemsEnabled()) {
+			components.add(Component.translatable("gem.disabled").withStyle(ChatFormatting.RED));
+			return;
 		}
 		MutableComponent gemTooltip = Component.translatable("gem.tooltip").withStyle(ChatFormatting.YELLOW);
 		components.add(gemTooltip);
@@ -0,0 +1,39 @@
+package daripher.skilltree.item.gem;
+
+import javax.annotation.Nullable;
+
+import daripher.skilltree.api.HasAdditionalSockets;
+import daripher.skilltree.api.SocketDataContainer;
+import daripher.skilltree.item.ItemHelper;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+
+public class NativeSocketBackend implements SocketBackend {
+	@Override
+	public boolean areGemsEnabled() {
+		return true;
+	}
+
+	@Override
+	public SocketData getSocketData(ItemStack stack) {
+		return ((SocketDataContainer) (Object) stack).getSocketData();
+	}
+
+	@Override
+	public int getGemsCount(ItemStack stack) {
+		return getSocketData(stack).getGemsCount();
+	}
+
+	@Override
+	public int getMaximumSockets(ItemStack stack, @Nullable Player player) {
+		int sockets = ItemHelper.getDefaultSockets(stack);
+		if (ItemHelper.hasBonus(stack, ItemHelper.ADDITIONAL_SOCKETS)) {
+			sockets += ItemHelper.getBonus(stack, ItemHelper.ADDITIONAL_SOCKETS);
+		}
+		if (stack.getItem() instanceof HasAdditionalSockets) {
+			sockets += ((HasAdditionalSockets) stack.getItem()).getAdditionalSockets();
+		}
+		if (player != null) sockets += GemHelper.getPlayerSockets(stack, player);
+		return sockets;
+	}
+}
@@ -0,0 +1,23 @@
+package daripher.skilltree.item.gem;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Source of gem sockets. Either the mod's own gems or Apotheosis sockets when its adventure module
+ * is enabled.
+ */
+public interface SocketBackend {
+	/**
+	 * @return whether gems from this mod can be inserted into items
+	 */
+	boolean areGemsEnabled();
+
+	SocketData getSocketData(ItemStack stack);
+
+	int getGemsCount(ItemStack stack);
+
+	int getMaximumSockets(ItemStack stack, @Nullable Player player);
+}
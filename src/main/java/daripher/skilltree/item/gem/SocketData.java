@@ -0,0 +1,116 @@
+package daripher.skilltree.item.gem;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier.Operation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.registries.ForgeRegistries;
+
+/**
+ * Gems inserted into a stack, decoded once. Stays valid while the stack keeps the same tag and the
+ * same gems list of the same size.
+ */
+public class SocketData {
+	private static final Operation[] OPERATIONS = Operation.values();
+	@SuppressWarnings("unchecked")
+	public static final SocketData EMPTY = new SocketData(null, null, new GemItem[0], new Optional[0]);
+	private final @Nullable CompoundTag tag;
+	private final @Nullable Tag gemsTag;
+	private final GemItem[] gems;
+	private final Optional<Pair<Attribute, AttributeModifier>>[] bonuses;
+
+	private SocketData(@Nullable CompoundTag tag, @Nullable Tag gemsTag, GemItem[] gems, Optional<Pair<Attribute, AttributeModifier>>[] bonuses) {
+		this.tag = tag;
+		this.gemsTag = gemsTag;
+		this.gems = gems;
+		this.bonuses = bonuses;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static SocketData of(ItemStack stack) {
+		CompoundTag tag = stack.getTag();
+		// stacks are migrated when loaded, this only happens for tags set directly, like in commands
+		GemHelper.migrateLegacyGems(tag);
+		Tag gemsTag = getGemsTag(tag);
+		int size = getSize(gemsTag);
+		GemItem[] gems = new GemItem[size];
+		Optional<Pair<Attribute, AttributeModifier>>[] bonuses = new Optional[size];
+		for (int socket = 0; socket < size; socket++) {
+			CompoundTag gemTag = ((ListTag) gemsTag).getCompound(socket);
+			gems[socket] = readGem(gemTag.getString(GemHelper.GEM_TAG));
+			bonuses[socket] = readAttributeBonus(gemTag);
+		}
+		return new SocketData(tag, gemsTag, gems, bonuses);
+	}
+
+	public boolean isValidFor(ItemStack stack) {
+		CompoundTag stackTag = stack.getTag();
+		if (stackTag != tag) return false;
+		Tag stackGemsTag = getGemsTag(stackTag);
+		return stackGemsTag == gemsTag && getSize(stackGemsTag) == gems.length;
+	}
+
+	public int getGemsCount() {
+		return gems.length;
+	}
+
+	public boolean hasGem(int socket) {
+		return socket >= 0 && socket < gems.length;
+	}
+
+	public Optional<GemItem> getGem(int socket) {
+		if (!hasGem(socket)) return Optional.empty();
+		return Optional.ofNullable(gems[socket]);
+	}
+
+	public Optional<Pair<Attribute, AttributeModifier>> getAttributeBonus(int socket) {
+		if (!hasGem(socket)) return Optional.empty();
+		return bonuses[socket];
+	}
+
+	private static @Nullable Tag getGemsTag(@Nullable CompoundTag tag) {
+		if (tag == null) return null;
+		if (tag.get(GemHelper.GEMS_TAG) instanceof CompoundTag gemsTag) return gemsTag.get(GemHelper.SOCKETS_TAG);
+		return null;
+	}
+
+	private static int getSize(@Nullable Tag tag) {
+		// only compound lists hold gems, same as ListTag.getList(GEMS_TAG, COMPOUND)
+		return tag instanceof ListTag list && list.getElementType() == Tag.TAG_COMPOUND ? list.size() : 0;
+	}
+
+	private static @Nullable GemItem readGem(String gemId) {
+		Item item = ForgeRegistries.ITEMS.getValue(new ResourceLocation(gemId));
+		return item instanceof GemItem gem ? gem : null;
+	}
+
+	private static Optional<Pair<Attribute, AttributeModifier>> readAttributeBonus(CompoundTag gemTag) {
+		Attribute attribute = getAttribute(gemTag.getString(GemHelper.ATTRIBUTE_TAG));
+		if (attribute == null) return Optional.empty();
+		int operationId = gemTag.getByte(GemHelper.OPERATION_TAG);
+		if (operationId < 0 || operationId >= OPERATIONS.length) return Optional.empty();
+		// the amount is stored as float, parsing its string form avoids float noise like 0.10000000149
+		double amount = Double.parseDouble(Float.toString(gemTag.getFloat(GemHelper.AMOUNT_TAG)));
+		if (amount == 0) return Optional.empty();
+		if (!gemTag.hasUUID(GemHelper.UUID_TAG)) return Optional.empty();
+		UUID id = gemTag.getUUID(GemHelper.UUID_TAG);
+		return Optional.of(Pair.of(attribute, new AttributeModifier(id, "Gem Bonus", amount, OPERATIONS[operationId])));
+	}
+
+	private static @Nullable Attribute getAttribute(String attributeId) {
+		if (attributeId.isEmpty()) return null;
+		return ForgeRegistries.ATTRIBUTES.getValue(new ResourceLocation(attributeId));
+	}
+}
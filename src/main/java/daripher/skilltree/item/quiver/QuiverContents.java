@@ -0,0 +1,53 @@
+package daripher.skilltree.item.quiver;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Arrows stored in a quiver, decoded once. Stays valid while the quiver keeps the same tag with the
+ * same arrows and count tags. The arrows stack is shared and has to be copied before changing it.
+ */
+public class QuiverContents {
+	private final @Nullable CompoundTag tag;
+	private final @Nullable Tag arrowsTag;
+	private final @Nullable Tag countTag;
+	private final ItemStack arrows;
+	private final int count;
+
+	private QuiverContents(ItemStack quiver) {
+		tag = quiver.getTag();
+		arrowsTag = getArrowsTag(tag);
+		countTag = getCountTag(tag);
+		arrows = arrowsTag instanceof CompoundTag arrowsCompound ? ItemStack.of(arrowsCompound) : ItemStack.EMPTY;
+		count = tag == null ? 0 : tag.getInt(QuiverItem.ARROWS_COUNT_TAG);
+	}
+
+	public static QuiverContents of(ItemStack quiver) {
+		return new QuiverContents(quiver);
+	}
+
+	public boolean isValidFor(ItemStack quiver) {
+		CompoundTag quiverTag = quiver.getTag();
+		if (quiverTag != tag) return false;
+		return getArrowsTag(quiverTag) == arrowsTag && getCountTag(quiverTag) == countTag;
+	}
+
+	public ItemStack getArrows() {
+		return arrows;
+	}
+
+	public int getArrowsCount() {
+		return count;
+	}
+
+	private static @Nullable Tag getArrowsTag(@Nullable CompoundTag tag) {
+		return tag == null ? null : tag.get(QuiverItem.ARROWS_TAG);
+	}
+
+	private static @Nullable Tag getCountTag(@Nullable CompoundTag tag) {
+		return tag == null ? null : tag.get(QuiverItem.ARROWS_COUNT_TAG);
+	}
+}
@@ -4,13 +4,18 @@ import java.util.List;
 import java.util.Optional;
 
 import daripher.skilltree.SkillTreeMod;
+import daripher.skilltree.api.QuiverContentsContainer;
+import daripher.skilltree.api.QuiverPickupsContainer;
 import daripher.skilltree.init.PSTCreativeTabs;
 import daripher.skilltree.item.ItemHelper;
+import daripher.skilltree.util.PlayerHelper;
 import net.minecraft.ChatFormatting;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResultHolder;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ArrowItem;
 import net.minecraft.world.item.Item;
@@ -18,9 +23,13 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.item.enchantment.Enchantment;
 import net.minecraft.world.level.Level;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.PlayerTickEvent;
+import net.minecraftforge.event.entity.living.LivingDeathEvent;
 import net.minecraftforge.event.entity.living.LivingGetProjectileEvent;
 import net.minecraftforge.event.entity.player.ArrowLooseEvent;
 import net.minecraftforge.event.entity.player.EntityItemPickupEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent.PlayerLoggedOutEvent;
 import net.minecraftforge.eventbus.api.Event.Result;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
@@ -30,8 +39,8 @@ import top.theillusivec4.curios.api.type.capability.ICurioItem;
 
 @EventBusSubscriber(modid = SkillTreeMod.MOD_ID)
 public class QuiverItem extends Item implements ICurioItem {
-	private static final String ARROWS_TAG = "Arrows";
-	private static final String ARROWS_COUNT_TAG = "ArrowsCount";
+	static final String ARROWS_TAG = "Arrows";
+	static final String ARROWS_COUNT_TAG = "ArrowsCount";
 	private final int capacity;
 
 	public QuiverItem(int capacity) {
@@ -84,8 +93,7 @@ public class QuiverItem extends Item implements ICurioItem {
 	public static void storeArrowsOnPickup(EntityItemPickupEvent event) {
 		ItemStack arrows = event.getItem().getItem();
 		if (!(arrows.getItem() instanceof ArrowItem arrow)) return;
-		Optional<SlotResult> quiverCurio = CuriosApi.getCuriosHelper().findFirstCurio(event.getEntity(), ItemHelper::isQuiver);
-		quiverCurio.map(SlotResult::stack).ifPresent(quiver -> {
+		getEquippedQuiver(event.getEntity()).ifPresent(quiver -> {
 			if (isFull(quiver)) return;
 			if (!containsArrows(quiver)) {
 				setArrows(quiver, arrows.copy(), arrows.getCount());
@@ -102,10 +110,45 @@ public class QuiverItem extends Item implements ICurioItem {
 		});
 	}
 
+	/**
+	 * Queues an arrow picked up from the ground to be stored into the equipped quiver at the end of the
+	 * player's tick. Returns false if the quiver can't take it.
+	 */
+	public static boolean queueArrowPickup(Player player, ItemStack arrows) {
+		if (!(arrows.getItem() instanceof ArrowItem)) return false;
+		ItemStack quiver = PlayerHelper.getCuriosIndex(player).getQuiver();
+		if (quiver.isEmpty()) return false;
+		return ((QuiverPickupsContainer) player).getQuiverPickups().add(quiver, arrows);
+	}
+
+	@SubscribeEvent
+	public static void storeArrowsAtTickEnd(PlayerTickEvent event) {
+		if (event.phase != Phase.END) return;
+		if (event.player instanceof ServerPlayer player) storePickedUpArrows(player);
+	}
+
+	/**
+	 * Queued arrows are stored before the player's inventory is dropped or copied, so they aren't lost
+	 * if the player dies before the end of the tick.
+	 */
+	@SubscribeEvent
+	public static void storeArrowsOnDeath(LivingDeathEvent event) {
+		if (event.getEntity() instanceof ServerPlayer player) storePickedUpArrows(player);
+	}
+
+	@SubscribeEvent
+	public static void storeArrowsOnLogout(PlayerLoggedOutEvent event) {
+		if (event.getEntity() instanceof ServerPlayer player) storePickedUpArrows(player);
+	}
+
+	public static void storePickedUpArrows(ServerPlayer player) {
+		ItemStack quiver = PlayerHelper.getCuriosIndex(player).getQuiver();
+		((QuiverPickupsContainer) player).getQuiverPickups().store(player, quiver);
+	}
+
 	@SubscribeEvent
 	public static void takeArrowFromQuiver(LivingGetProjectileEvent event) {
-		Optional<SlotResult> quiverCurio = CuriosApi.getCuriosHelper().findFirstCurio(event.getEntity(), ItemHelper::isQuiver);
-		quiverCurio.map(SlotResult::stack).ifPresent(quiver -> {
+		getEquippedQuiver(event.getEntity()).ifPresent(quiver -> {
 			if (containsArrows(quiver)) event.setProjectileItemStack(getArrows(quiver).copy());
 		});
 	}
@@ -113,12 +156,19 @@ public class QuiverItem extends Item implements ICurioItem {
 	@SubscribeEvent
 	public static void removeArrowFromQuiver(ArrowLooseEvent event) {
 		if (event.getEntity().isCreative()) return;
-		Optional<SlotResult> quiverCurio = CuriosApi.getCuriosHelper().findFirstCurio(event.getEntity(), ItemHelper::isQuiver);
-		quiverCurio.map(SlotResult::stack).ifPresent(quiver -> {
+		getEquippedQuiver(event.getEntity()).ifPresent(quiver -> {
 			if (containsArrows(quiver)) addArrows(quiver, -1);
 		});
 	}
 
+	private static Optional<ItemStack> getEquippedQuiver(LivingEntity entity) {
+		if (entity instanceof Player player) {
+			ItemStack quiver = PlayerHelper.getCuriosIndex(player).getQuiver();
+			return quiver.isEmpty() ? Optional.empty() : Optional.of(quiver);
+		}
+		return CuriosApi.getCuriosHelper().findFirstCurio(entity, ItemHelper::isQuiver).map(SlotResult::stack);
+	}
+
 	private void dropArrows(Player player, ItemStack stack, int count) {
 		ItemStack arrowsStack = getArrows(stack).copy();
 		arrowsStack.setCount(count);
@@ -142,15 +192,22 @@ public class QuiverItem extends Item implements ICurioItem {
 	}
 
 	public static boolean containsArrows(ItemStack stack) {
-		return stack.hasTag() && stack.getTag().contains(ARROWS_TAG) && !getArrows(stack).isEmpty() && getArrowsCount(stack) > 0;
+		return !getArrows(stack).isEmpty() && getArrowsCount(stack) > 0;
 	}
 
+	/**
+	 * The returned stack is shared, copy it before changing.
+	 */
 	public static ItemStack getArrows(ItemStack stack) {
-		return ItemStack.of((CompoundTag) stack.getOrCreateTag().get(ARROWS_TAG));
+		return getContents(stack).getArrows();
 	}
 
 	public static int getArrowsCount(ItemStack stack) {
-		return stack.getOrCreateTag().getInt(ARROWS_COUNT_TAG);
+		return getContents(stack).getArrowsCount();
+	}
+
+	private static QuiverContents getContents(ItemStack stack) {
+		return ((QuiverContentsContainer) (Object) stack).getQuiverContents();
 	}
 
 	public static void addArrows(ItemStack stack, ItemStack arrows, int count) {
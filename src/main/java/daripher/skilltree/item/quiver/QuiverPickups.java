@@ -0,0 +1,47 @@
+package daripher.skilltree.item.quiver;
+
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Arrows a player picked up during the current tick. They are stored into the quiver all at once, so
+ * a volley of arrows costs one quiver update instead of one item entity and one update per arrow.
+ */
+public class QuiverPickups {
+	private ItemStack arrows = ItemStack.EMPTY;
+	private int count;
+
+	public boolean add(ItemStack quiver, ItemStack pickedArrows) {
+		if (!arrows.isEmpty() && !ItemStack.isSameItemSameTags(arrows, pickedArrows)) return false;
+		if (!canStore(quiver, pickedArrows, count + pickedArrows.getCount())) return false;
+		if (arrows.isEmpty()) {
+			arrows = pickedArrows.copy();
+			arrows.setCount(1);
+		}
+		count += pickedArrows.getCount();
+		return true;
+	}
+
+	public void store(Player player, ItemStack quiver) {
+		if (count == 0) return;
+		ItemStack pickedArrows = arrows;
+		int pickedCount = count;
+		arrows = ItemStack.EMPTY;
+		count = 0;
+		if (!quiver.isEmpty() && canStore(quiver, pickedArrows, pickedCount)) {
+			if (QuiverItem.containsArrows(quiver)) QuiverItem.addArrows(quiver, pickedCount);
+			else QuiverItem.setArrows(quiver, pickedArrows, pickedCount);
+			return;
+		}
+		// the quiver was taken off or filled since the arrows were picked up
+		ItemStack leftover = pickedArrows.copy();
+		leftover.setCount(pickedCount);
+		if (!player.getInventory().add(leftover)) player.drop(leftover, false);
+	}
+
+	private static boolean canStore(ItemStack quiver, ItemStack arrows, int count) {
+		if (!QuiverItem.containsArrows(quiver)) return count <= QuiverItem.getCapacity(quiver);
+		if (!ItemStack.isSameItemSameTags(QuiverItem.getArrows(quiver), arrows)) return false;
+		return QuiverItem.getArrowsCount(quiver) + count <= QuiverItem.getCapacity(quiver);
+	}
+}
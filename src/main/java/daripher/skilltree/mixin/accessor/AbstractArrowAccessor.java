@@ -0,0 +1,13 @@
+package daripher.skilltree.mixin.accessor;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+import net.minecraft.world.entity.projectile.AbstractArrow;
+import net.minecraft.world.item.ItemStack;
+
+@Mixin(AbstractArrow.class)
+public interface AbstractArrowAccessor {
+	@Invoker("getPickupItem")
+	ItemStack invokeGetPickupItem();
+}
@@ -0,0 +1,21 @@
+package daripher.skilltree.mixin.accessor;
+
+import java.util.UUID;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import net.minecraft.world.item.Item;
+
+@Mixin(Item.class)
+public interface ItemAccessor {
+	@Accessor("BASE_ATTACK_DAMAGE_UUID")
+	static UUID getBaseAttackDamageId() {
+		throw new AssertionError();
+	}
+
+	@Accessor("BASE_ATTACK_SPEED_UUID")
+	static UUID getBaseAttackSpeedId() {
+		throw new AssertionError();
+	}
+}
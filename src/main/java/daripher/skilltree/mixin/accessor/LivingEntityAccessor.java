@@ -0,0 +1,12 @@
+package daripher.skilltree.mixin.accessor;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+import net.minecraft.world.entity.LivingEntity;
+
+@Mixin(LivingEntity.class)
+public interface LivingEntityAccessor {
+	@Invoker("blockUsingShield")
+	void invokeBlockUsingShield(LivingEntity attacker);
+}
@@ -0,0 +1,13 @@
+package daripher.skilltree.mixin.accessor;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import net.minecraft.client.gui.screens.recipebook.RecipeBookComponent;
+import net.minecraft.client.gui.screens.recipebook.RecipeBookPage;
+
+@Mixin(RecipeBookComponent.class)
+public interface RecipeBookComponentAccessor {
+	@Accessor("recipeBookPage")
+	RecipeBookPage getRecipeBookPage();
+}
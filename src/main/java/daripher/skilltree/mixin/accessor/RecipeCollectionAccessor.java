@@ -0,0 +1,15 @@
+package daripher.skilltree.mixin.accessor;
+
+import java.util.Set;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import net.minecraft.client.gui.screens.recipebook.RecipeCollection;
+import net.minecraft.world.item.crafting.Recipe;
+
+@Mixin(RecipeCollection.class)
+public interface RecipeCollectionAccessor {
+	@Accessor("craftable")
+	Set<Recipe<?>> getCraftable();
+}
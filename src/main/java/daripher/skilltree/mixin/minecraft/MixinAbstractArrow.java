@@ -6,6 +6,7 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
+import daripher.skilltree.item.quiver.QuiverItem;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.projectile.AbstractArrow;
@@ -21,6 +22,12 @@ public abstract class MixinAbstractArrow {
 		AbstractArrow arrow = (AbstractArrow) (Object) this;
 		if (!arrow.level.isClientSide && (inGround || arrow.isNoPhysics()) && arrow.shakeTime <= 0) {
 			if (arrow.pickup == Pickup.ALLOWED) {
+				if (QuiverItem.queueArrowPickup(player, getPickupItem())) {
+					player.take(arrow, 1);
+					arrow.discard();
+					callback.cancel();
+					return;
+				}
 				ItemEntity item = new ItemEntity(arrow.level, player.getX(), player.getY(), player.getZ(), getPickupItem().copy());
 				arrow.level.addFreshEntity(item);
 				item.setPickUpDelay(0);
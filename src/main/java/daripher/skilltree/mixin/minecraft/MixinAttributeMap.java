@@ -0,0 +1,65 @@
+package daripher.skilltree.mixin.minecraft;
+
+import java.util.BitSet;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import daripher.skilltree.api.TrackedAttributeMap;
+import daripher.skilltree.attribute.IndexedAttribute;
+import daripher.skilltree.init.PSTAttributes;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeInstance;
+import net.minecraft.world.entity.ai.attributes.AttributeMap;
+
+@Mixin(AttributeMap.class)
+public class MixinAttributeMap implements TrackedAttributeMap {
+	private double[] indexedValues;
+	private BitSet outdatedValues;
+	private int[] indexedModifications;
+	// attributes of other mods and vanilla don't have an index
+	private final Reference2IntOpenHashMap<Attribute> modifications = new Reference2IntOpenHashMap<>();
+
+	@Inject(method = "onAttributeModified", at = @At("HEAD"))
+	private void countModification(AttributeInstance instance, CallbackInfo callbackInfo) {
+		if (instance.getAttribute() instanceof IndexedAttribute attribute) {
+			createIndexedValues();
+			indexedModifications[attribute.getIndex()]++;
+			outdatedValues.set(attribute.getIndex());
+		} else {
+			modifications.addTo(instance.getAttribute(), 1);
+		}
+	}
+
+	@Override
+	public int getModificationCount(Attribute attribute) {
+		if (attribute instanceof IndexedAttribute indexedAttribute) {
+			createIndexedValues();
+			return indexedModifications[indexedAttribute.getIndex()];
+		}
+		return modifications.getInt(attribute);
+	}
+
+	@Override
+	public double getIndexedValue(IndexedAttribute attribute) {
+		createIndexedValues();
+		int index = attribute.getIndex();
+		if (outdatedValues.get(index)) {
+			indexedValues[index] = ((AttributeMap) (Object) this).getValue(attribute);
+			outdatedValues.clear(index);
+		}
+		return indexedValues[index];
+	}
+
+	private void createIndexedValues() {
+		if (indexedValues != null) return;
+		int attributesCount = PSTAttributes.getAttributesCount();
+		indexedValues = new double[attributesCount];
+		outdatedValues = new BitSet(attributesCount);
+		outdatedValues.set(0, attributesCount);
+		indexedModifications = new int[attributesCount];
+	}
+}
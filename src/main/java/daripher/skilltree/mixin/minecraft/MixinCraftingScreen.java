@@ -17,6 +17,7 @@ import daripher.skilltree.api.SkillRequiringRecipe;
 import daripher.skilltree.capability.skill.PlayerSkillsProvider;
 import daripher.skilltree.client.SkillTreeClientData;
 import daripher.skilltree.client.widget.SkillButton;
+import daripher.skilltree.mixin.accessor.RecipeBookComponentAccessor;
 import daripher.skilltree.skill.PassiveSkill;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.Minecraft;
@@ -31,7 +32,6 @@ import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.inventory.CraftingMenu;
 import net.minecraft.world.item.ItemStack;
-import net.minecraftforge.fml.util.ObfuscationReflectionHelper;
 
 @Mixin(CraftingScreen.class)
 public abstract class MixinCraftingScreen extends AbstractContainerScreen<CraftingMenu> {
@@ -44,7 +44,7 @@ public abstract class MixinCraftingScreen extends AbstractContainerScreen<Crafti
 
 	@Inject(method = "containerTick", at = @At("HEAD"))
 	private void updateSkillButton(CallbackInfo callbackInfo) {
-		RecipeBookPage recipeBookPage = ObfuscationReflectionHelper.getPrivateValue(RecipeBookComponent.class, recipeBookComponent, "f_100284_");
+		RecipeBookPage recipeBookPage = ((RecipeBookComponentAccessor) recipeBookComponent).getRecipeBookPage();
 		if (!(recipeBookPage.getLastClickedRecipe() instanceof SkillRequiringRecipe)) {
 			if (requiredSkillButton != null) removeWidget(requiredSkillButton);
 			return;
@@ -79,7 +79,7 @@ public abstract class MixinCraftingScreen extends AbstractContainerScreen<Crafti
 		requiredSkillButton.x -= requiredSkillButton.getWidth() / 2;
 		requiredSkillButton.y -= requiredSkillButton.getHeight() / 2;
 		LocalPlayer player = Minecraft.getInstance().player;
-		if (PlayerSkillsProvider.get(player).hasSkill(requiredSkillButton.skill.getId())) {
+		if (PlayerSkillsProvider.get(player).hasSkill(requiredSkillButton.skill)) {
 			requiredSkillButton.highlighted = true;
 		}
 		addRenderableWidget(requiredSkillButton);
@@ -94,7 +94,7 @@ public abstract class MixinCraftingScreen extends AbstractContainerScreen<Crafti
 		ItemStack borderStyleStack = skillButton.getTooltipBorderStyleStack();
 		List<MutableComponent> tooltip = skillButton.getTooltip();
 		LocalPlayer player = Minecraft.getInstance().player;
-		if (!PlayerSkillsProvider.get(player).hasSkill(skillButton.skill.getId())) {
+		if (!PlayerSkillsProvider.get(player).hasSkill(skillButton.skill)) {
 			tooltip.add(Component.translatable("widget.skill_button.not_learned").withStyle(ChatFormatting.RED));
 		}
 		renderComponentTooltip(poseStack, tooltip, mouseX, mouseY, borderStyleStack);
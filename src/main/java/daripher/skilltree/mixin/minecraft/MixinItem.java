@@ -5,6 +5,7 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 
+import daripher.skilltree.api.ItemCategoriesContainer;
 import daripher.skilltree.util.FoodHelper;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.food.FoodProperties;
@@ -13,7 +14,9 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.extensions.IForgeItem;
 
 @Mixin(Item.class)
-public abstract class MixinItem implements IForgeItem {
+public abstract class MixinItem implements IForgeItem, ItemCategoriesContainer {
+	private int itemCategories;
+
 	@Redirect(method = "getBarWidth", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/item/Item;getMaxDamage(Lnet/minecraft/world/item/ItemStack;)I"))
 	private int applyBonusDurability(Item item, ItemStack stack) {
 		return stack.getMaxDamage();
@@ -34,4 +37,14 @@ public abstract class MixinItem implements IForgeItem {
 		newProperties.saturationMod(properties.getSaturationModifier() / restorationBonus);
 		return newProperties.build();
 	}
+
+	@Override
+	public int getItemCategories() {
+		return itemCategories;
+	}
+
+	@Override
+	public void setItemCategories(int categories) {
+		itemCategories = categories;
+	}
 }
@@ -1,21 +1,114 @@
 package daripher.skilltree.mixin.minecraft;
 
+import javax.annotation.Nullable;
+
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
+import daripher.skilltree.api.DurabilityBonusContainer;
+import daripher.skilltree.api.EnchantmentSummaryContainer;
+import daripher.skilltree.api.EnhancedEffectsContainer;
+import daripher.skilltree.api.QuiverContentsContainer;
+import daripher.skilltree.api.SocketDataContainer;
+import daripher.skilltree.item.EnchantmentSummary;
 import daripher.skilltree.item.ItemHelper;
+import daripher.skilltree.item.gem.GemHelper;
+import daripher.skilltree.item.gem.SocketData;
+import daripher.skilltree.item.quiver.QuiverContents;
+import daripher.skilltree.potion.EnhancedEffects;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.extensions.IForgeItemStack;
 
 @Mixin(ItemStack.class)
-public abstract class MixinItemStack implements IForgeItemStack {
+public abstract class MixinItemStack implements IForgeItemStack, EnchantmentSummaryContainer, SocketDataContainer, EnhancedEffectsContainer, DurabilityBonusContainer,
+		QuiverContentsContainer {
+	private @Nullable EnchantmentSummary enchantmentSummary;
+	private @Nullable SocketData socketData;
+	private @Nullable EnhancedEffects enhancedEffects;
+	private @Nullable QuiverContents quiverContents;
+	// tag the durability bonus was read from, the bonus is resolved again when it doesn't match
+	private @Nullable CompoundTag durabilityBonusTag;
+	private double durabilityBonus;
+	private boolean durabilityBonusResolved;
+	@Shadow
+	private @Nullable CompoundTag tag;
+
+	@Inject(method = "<init>(Lnet/minecraft/nbt/CompoundTag;)V", at = @At("RETURN"))
+	private void migrateLegacyTags(CompoundTag savedStack, CallbackInfo callback) {
+		// stacks are loaded before the gem backend can be created, so GemHelper is only touched for
+		// legacy gems
+		if (tag == null || !tag.contains("GEMSTONES")) return;
+		GemHelper.migrateLegacyGems(tag);
+	}
+
 	@Inject(method = "getMaxDamage", at = @At("RETURN"), cancellable = true)
 	private void getMaxDamage(CallbackInfoReturnable<Integer> callback) {
+		double bonus = getDurabilityBonus();
+		if (bonus == 0) return;
+		callback.setReturnValue((int) (callback.getReturnValue() * (1 + bonus)));
+	}
+
+	@Inject(method = "setTag", at = @At("HEAD"))
+	private void invalidateDecodedTags(@Nullable CompoundTag newTag, CallbackInfo callback) {
+		enchantmentSummary = null;
+		socketData = null;
+		enhancedEffects = null;
+		quiverContents = null;
+		resetDurabilityBonus();
+	}
+
+	@Override
+	public EnchantmentSummary getEnchantmentSummary() {
+		ItemStack stack = (ItemStack) (Object) this;
+		if (enchantmentSummary == null || !enchantmentSummary.isValidFor(stack)) {
+			enchantmentSummary = EnchantmentSummary.of(stack);
+		}
+		return enchantmentSummary;
+	}
+
+	@Override
+	public SocketData getSocketData() {
 		ItemStack stack = (ItemStack) (Object) this;
-		if (!ItemHelper.hasBonus(stack, ItemHelper.DURABILITY)) return;
-		double durabilityBonus = ItemHelper.getBonus(stack, ItemHelper.DURABILITY);
-		callback.setReturnValue((int) (callback.getReturnValue() * (1 + durabilityBonus)));
+		if (socketData == null || !socketData.isValidFor(stack)) socketData = SocketData.of(stack);
+		return socketData;
+	}
+
+	@Override
+	public QuiverContents getQuiverContents() {
+		ItemStack stack = (ItemStack) (Object) this;
+		if (quiverContents == null || !quiverContents.isValidFor(stack)) quiverContents = QuiverContents.of(stack);
+		return quiverContents;
+	}
+
+	@Override
+	public @Nullable EnhancedEffects getEnhancedEffects() {
+		return enhancedEffects;
+	}
+
+	@Override
+	public void setEnhancedEffects(@Nullable EnhancedEffects effects) {
+		enhancedEffects = effects;
+	}
+
+	@Override
+	public double getDurabilityBonus() {
+		if (!durabilityBonusResolved || durabilityBonusTag != tag) {
+			ItemStack stack = (ItemStack) (Object) this;
+			durabilityBonus = ItemHelper.hasBonus(stack, ItemHelper.DURABILITY) ? ItemHelper.getBonus(stack, ItemHelper.DURABILITY) : 0;
+			durabilityBonusTag = tag;
+			durabilityBonusResolved = true;
+		}
+		return durabilityBonus;
+	}
+
+	@Override
+	public void resetDurabilityBonus() {
+		durabilityBonusResolved = false;
+		durabilityBonusTag = null;
 	}
 }
@@ -5,9 +5,17 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
+import daripher.skilltree.api.CuriosIndexContainer;
+import daripher.skilltree.api.DynamicBonusContainer;
+import daripher.skilltree.api.EquipmentProfileContainer;
 import daripher.skilltree.api.IrisciteSeedContainer;
+import daripher.skilltree.api.QuiverPickupsContainer;
+import daripher.skilltree.attribute.DynamicBonusState;
 import daripher.skilltree.init.PSTAttributes;
+import daripher.skilltree.item.CuriosIndex;
+import daripher.skilltree.item.EquipmentProfile;
 import daripher.skilltree.item.ItemHelper;
+import daripher.skilltree.item.quiver.QuiverPickups;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.attributes.Attributes;
@@ -15,7 +23,12 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 
 @Mixin(Player.class)
-public abstract class MixinPlayer extends LivingEntity implements IrisciteSeedContainer {
+public abstract class MixinPlayer extends LivingEntity implements IrisciteSeedContainer, DynamicBonusContainer, EquipmentProfileContainer, CuriosIndexContainer,
+		QuiverPickupsContainer {
+	private final DynamicBonusState dynamicBonusState = new DynamicBonusState();
+	private final EquipmentProfile equipmentProfile = new EquipmentProfile();
+	private final CuriosIndex curiosIndex = new CuriosIndex();
+	private final QuiverPickups quiverPickups = new QuiverPickups();
 	private int rainbowJewelInsertionSeed;
 
 	protected MixinPlayer() {
@@ -63,4 +76,24 @@ public abstract class MixinPlayer extends LivingEntity implements IrisciteSeedCo
 	public void updateIrisciteSeed() {
 		rainbowJewelInsertionSeed = random.nextInt();
 	}
+
+	@Override
+	public DynamicBonusState getDynamicBonusState() {
+		return dynamicBonusState;
+	}
+
+	@Override
+	public EquipmentProfile getEquipmentProfile() {
+		return equipmentProfile;
+	}
+
+	@Override
+	public CuriosIndex getCuriosIndex() {
+		return curiosIndex;
+	}
+
+	@Override
+	public QuiverPickups getQuiverPickups() {
+		return quiverPickups;
+	}
 }
@@ -14,13 +14,13 @@ import com.google.common.collect.Lists;
 
 import daripher.skilltree.api.PlayerContainer;
 import daripher.skilltree.api.SkillRequiringRecipe;
+import daripher.skilltree.mixin.accessor.RecipeCollectionAccessor;
 import net.minecraft.client.ClientRecipeBook;
 import net.minecraft.client.gui.screens.recipebook.RecipeBookComponent;
 import net.minecraft.client.gui.screens.recipebook.RecipeCollection;
 import net.minecraft.world.entity.player.StackedContents;
 import net.minecraft.world.inventory.RecipeBookMenu;
 import net.minecraft.world.item.crafting.Recipe;
-import net.minecraftforge.fml.util.ObfuscationReflectionHelper;
 
 @Mixin(RecipeBookComponent.class)
 public class MixinRecipeBookComponent {
@@ -36,7 +36,7 @@ public class MixinRecipeBookComponent {
 	}
 
 	protected void removeUncraftableRecipes(RecipeCollection recipeCollection) {
-		Set<Recipe<?>> craftableRecipes = ObfuscationReflectionHelper.getPrivateValue(RecipeCollection.class, recipeCollection, "f_100493_");
+		Set<Recipe<?>> craftableRecipes = ((RecipeCollectionAccessor) recipeCollection).getCraftable();
 		if (craftableRecipes.isEmpty()) return;
 		craftableRecipes.removeIf(Predicates.not(this::canCraft));
 	}
@@ -4,7 +4,12 @@ import java.util.Optional;
 
 import daripher.skilltree.SkillTreeMod;
 import daripher.skilltree.network.message.GainSkillPointMessage;
-import daripher.skilltree.network.message.LearnSkillMessage;
+import daripher.skilltree.network.message.LearnSkillsMessage;
+import daripher.skilltree.network.message.RequestSkillTreeMessage;
+import daripher.skilltree.network.message.SkillPointsChangedMessage;
+import daripher.skilltree.network.message.SkillTreeHashMessage;
+import daripher.skilltree.network.message.SkillsLearnedMessage;
+import daripher.skilltree.network.message.SkillsRemovedMessage;
 import daripher.skilltree.network.message.SyncPlayerSkillsMessage;
 import daripher.skilltree.network.message.SyncSkillsMessage;
 import net.minecraft.resources.ResourceLocation;
@@ -18,14 +23,21 @@ import net.minecraftforge.network.simple.SimpleChannel;
 
 @EventBusSubscriber(bus = Bus.MOD, modid = SkillTreeMod.MOD_ID)
 public class NetworkDispatcher {
+	// bump whenever a message or the skill tree format changes, mismatched versions are refused at login
+	private static final String PROTOCOL_VERSION = "2.0";
 	public static SimpleChannel network_channel;
 
 	@SubscribeEvent
 	public static void registerNetworkChannel(FMLCommonSetupEvent event) {
-		network_channel = NetworkRegistry.newSimpleChannel(new ResourceLocation(SkillTreeMod.MOD_ID, "channel"), () -> "1.0", s -> true, s -> true);
+		network_channel = NetworkRegistry.newSimpleChannel(new ResourceLocation(SkillTreeMod.MOD_ID, "channel"), () -> PROTOCOL_VERSION, PROTOCOL_VERSION::equals, PROTOCOL_VERSION::equals);
 		network_channel.registerMessage(1, SyncSkillsMessage.class, SyncSkillsMessage::encode, SyncSkillsMessage::decode, SyncSkillsMessage::receive, Optional.of(NetworkDirection.PLAY_TO_CLIENT));
 		network_channel.registerMessage(2, SyncPlayerSkillsMessage.class, SyncPlayerSkillsMessage::encode, SyncPlayerSkillsMessage::decode, SyncPlayerSkillsMessage::receive, Optional.of(NetworkDirection.PLAY_TO_CLIENT));
-		network_channel.registerMessage(3, LearnSkillMessage.class, LearnSkillMessage::encode, LearnSkillMessage::decode, LearnSkillMessage::receive, Optional.of(NetworkDirection.PLAY_TO_SERVER));
+		network_channel.registerMessage(3, LearnSkillsMessage.class, LearnSkillsMessage::encode, LearnSkillsMessage::decode, LearnSkillsMessage::receive, Optional.of(NetworkDirection.PLAY_TO_SERVER));
 		network_channel.registerMessage(4, GainSkillPointMessage.class, GainSkillPointMessage::encode, GainSkillPointMessage::decode, GainSkillPointMessage::receive, Optional.of(NetworkDirection.PLAY_TO_SERVER));
+		network_channel.registerMessage(5, SkillTreeHashMessage.class, SkillTreeHashMessage::encode, SkillTreeHashMessage::decode, SkillTreeHashMessage::receive, Optional.of(NetworkDirection.PLAY_TO_CLIENT));
+		network_channel.registerMessage(6, RequestSkillTreeMessage.class, RequestSkillTreeMessage::encode, RequestSkillTreeMessage::decode, RequestSkillTreeMessage::receive, Optional.of(NetworkDirection.PLAY_TO_SERVER));
+		network_channel.registerMessage(7, SkillsLearnedMessage.class, SkillsLearnedMessage::encode, SkillsLearnedMessage::decode, SkillsLearnedMessage::receive, Optional.of(NetworkDirection.PLAY_TO_CLIENT));
+		network_channel.registerMessage(8, SkillsRemovedMessage.class, SkillsRemovedMessage::encode, SkillsRemovedMessage::decode, SkillsRemovedMessage::receive, Optional.of(NetworkDirection.PLAY_TO_CLIENT));
+		network_channel.registerMessage(9, SkillPointsChangedMessage.class, SkillPointsChangedMessage::encode, SkillPointsChangedMessage::decode, SkillPointsChangedMessage::receive, Optional.of(NetworkDirection.PLAY_TO_CLIENT));
 	}
 }
@@ -33,6 +33,6 @@ public class GainSkillPointMessage {
 		if (player.totalExperience < cost) return;
 		player.giveExperiencePoints(-cost);
 		capability.grantSkillPoints(1);
-		NetworkDispatcher.network_channel.send(PacketDistributor.PLAYER.with(() -> player), new SyncPlayerSkillsMessage(player));
+		NetworkDispatcher.network_channel.send(PacketDistributor.PLAYER.with(() -> player), new SkillPointsChangedMessage(player));
 	}
 }
@@ -0,0 +1,79 @@
+package daripher.skilltree.network.message;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import daripher.skilltree.capability.skill.IPlayerSkills;
+import daripher.skilltree.capability.skill.PlayerSkillsProvider;
+import daripher.skilltree.network.NetworkDispatcher;
+import daripher.skilltree.skill.PassiveSkill;
+import daripher.skilltree.skill.SkillsReloader;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+import net.minecraftforge.network.NetworkEvent.Context;
+import net.minecraftforge.network.PacketDistributor;
+import net.minecraftforge.network.PacketDistributor.PacketTarget;
+
+/**
+ * Asks the server to learn several skills at once, in the order they were picked on the client.
+ * Ordinals are only accepted if the client's tree has the same hash as the server's one.
+ */
+public class LearnSkillsMessage {
+	private String treeHash;
+	private int[] skillOrdinals;
+
+	public LearnSkillsMessage(@Nullable String treeHash, Collection<PassiveSkill> skills) {
+		this.treeHash = treeHash == null ? "" : treeHash;
+		skillOrdinals = skills.stream().mapToInt(PassiveSkill::getOrdinal).toArray();
+	}
+
+	private LearnSkillsMessage() {
+	}
+
+	public static LearnSkillsMessage decode(FriendlyByteBuf buf) {
+		var message = new LearnSkillsMessage();
+		message.treeHash = buf.readUtf();
+		message.skillOrdinals = buf.readVarIntArray();
+		return message;
+	}
+
+	public void encode(FriendlyByteBuf buf) {
+		buf.writeUtf(treeHash);
+		buf.writeVarIntArray(skillOrdinals);
+	}
+
+	public static void receive(LearnSkillsMessage message, Supplier<NetworkEvent.Context> ctxSupplier) {
+		Context ctx = ctxSupplier.get();
+		ctx.setPacketHandled(true);
+		ctx.enqueueWork(() -> learnSkills(ctx.getSender(), message.treeHash, message.skillOrdinals));
+	}
+
+	private static void learnSkills(ServerPlayer player, String treeHash, int[] skillOrdinals) {
+		IPlayerSkills capability = PlayerSkillsProvider.get(player);
+		PacketTarget target = PacketDistributor.PLAYER.with(() -> player);
+		if (!treeHash.equals(SkillsReloader.getEncodedSkillsHash())) {
+			// ordinals of an outdated tree may name other skills, so nothing is learned and the client gets
+			// the current tree
+			NetworkDispatcher.network_channel.send(target, new SyncSkillsMessage());
+			NetworkDispatcher.network_channel.send(target, new SyncPlayerSkillsMessage(player));
+			return;
+		}
+		List<PassiveSkill> skills = new ArrayList<>();
+		for (int ordinal : skillOrdinals) {
+			PassiveSkill skill = SkillsReloader.getSkill(ordinal);
+			if (skill == null) break;
+			skills.add(skill);
+		}
+		if (skills.size() == skillOrdinals.length && capability.learnSkills(player, skills)) {
+			NetworkDispatcher.network_channel.send(target, new SkillsLearnedMessage(player, skills));
+		} else {
+			// a rejected request means the client is out of sync, so it gets the full state
+			NetworkDispatcher.network_channel.send(target, new SyncPlayerSkillsMessage(player));
+		}
+	}
+}
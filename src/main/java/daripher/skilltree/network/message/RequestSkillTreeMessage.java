@@ -0,0 +1,46 @@
+package daripher.skilltree.network.message;
+
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import daripher.skilltree.network.NetworkDispatcher;
+import daripher.skilltree.skill.SkillsReloader;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+import net.minecraftforge.network.NetworkEvent.Context;
+import net.minecraftforge.network.PacketDistributor;
+
+/**
+ * Asks for the learned skills, and for the whole tree too if the client's tree hash is not the
+ * server's one.
+ */
+public class RequestSkillTreeMessage {
+	private String treeHash;
+
+	public RequestSkillTreeMessage(@Nullable String treeHash) {
+		this.treeHash = treeHash == null ? "" : treeHash;
+	}
+
+	public static RequestSkillTreeMessage decode(FriendlyByteBuf buf) {
+		return new RequestSkillTreeMessage(buf.readUtf());
+	}
+
+	public void encode(FriendlyByteBuf buf) {
+		buf.writeUtf(treeHash);
+	}
+
+	public static void receive(RequestSkillTreeMessage message, Supplier<NetworkEvent.Context> ctxSupplier) {
+		Context ctx = ctxSupplier.get();
+		ctx.setPacketHandled(true);
+		ServerPlayer player = ctx.getSender();
+		ctx.enqueueWork(() -> {
+			PacketDistributor.PacketTarget target = PacketDistributor.PLAYER.with(() -> player);
+			boolean fullTree = !message.treeHash.equals(SkillsReloader.getEncodedSkillsHash());
+			if (fullTree) NetworkDispatcher.network_channel.send(target, new SyncSkillsMessage());
+			// learned skills are resent once the client has the tree they refer to
+			NetworkDispatcher.network_channel.send(target, new SyncPlayerSkillsMessage(player));
+		});
+	}
+}
@@ -0,0 +1,52 @@
+package daripher.skilltree.network.message;
+
+import java.util.function.Supplier;
+
+import daripher.skilltree.capability.skill.IPlayerSkills;
+import daripher.skilltree.capability.skill.PlayerSkillsProvider;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+
+public class SkillPointsChangedMessage {
+	private int skillPoints;
+	private int checksum;
+
+	private SkillPointsChangedMessage() {
+	}
+
+	public SkillPointsChangedMessage(Player player) {
+		IPlayerSkills skillsCapability = PlayerSkillsProvider.get(player);
+		skillPoints = skillsCapability.getSkillPoints();
+		checksum = skillsCapability.getChecksum();
+	}
+
+	public static SkillPointsChangedMessage decode(FriendlyByteBuf buf) {
+		var result = new SkillPointsChangedMessage();
+		result.skillPoints = buf.readInt();
+		result.checksum = buf.readInt();
+		return result;
+	}
+
+	public void encode(FriendlyByteBuf buf) {
+		buf.writeInt(skillPoints);
+		buf.writeInt(checksum);
+	}
+
+	public static void receive(SkillPointsChangedMessage message, Supplier<NetworkEvent.Context> ctxSupplier) {
+		var ctx = ctxSupplier.get();
+		ctx.setPacketHandled(true);
+		ctx.enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> handlePacket(message)));
+	}
+
+	@OnlyIn(value = Dist.CLIENT)
+	private static void handlePacket(SkillPointsChangedMessage message) {
+		var skillsCapability = PlayerSkillsProvider.get(Minecraft.getInstance().player);
+		skillsCapability.setSkillPoints(message.skillPoints);
+		SyncPlayerSkillsMessage.finishDelta(skillsCapability, true, message.checksum);
+	}
+}
@@ -0,0 +1,49 @@
+package daripher.skilltree.network.message;
+
+import java.util.function.Supplier;
+
+import daripher.skilltree.client.SkillTreeClientData;
+import daripher.skilltree.network.NetworkDispatcher;
+import daripher.skilltree.skill.SkillsReloader;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+
+/**
+ * Sent on login and after every reload instead of the full skill tree. The client answers with
+ * {@link RequestSkillTreeMessage}, asking for the tree only if it isn't loaded or cached.
+ */
+public class SkillTreeHashMessage {
+	private String hash;
+
+	public SkillTreeHashMessage() {
+		hash = SkillsReloader.getEncodedSkillsHash();
+	}
+
+	private SkillTreeHashMessage(String hash) {
+		this.hash = hash;
+	}
+
+	public static SkillTreeHashMessage decode(FriendlyByteBuf buf) {
+		return new SkillTreeHashMessage(buf.readUtf());
+	}
+
+	public void encode(FriendlyByteBuf buf) {
+		buf.writeUtf(hash);
+	}
+
+	public static void receive(SkillTreeHashMessage message, Supplier<NetworkEvent.Context> ctxSupplier) {
+		var ctx = ctxSupplier.get();
+		ctx.setPacketHandled(true);
+		ctx.enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> handlePacket(message)));
+	}
+
+	@OnlyIn(value = Dist.CLIENT)
+	private static void handlePacket(SkillTreeHashMessage message) {
+		boolean outdated = !message.hash.equals(SkillTreeClientData.getTreeHash());
+		if (outdated && SkillTreeClientData.isValidTreeHash(message.hash)) SkillTreeClientData.loadFromCache(message.hash);
+		NetworkDispatcher.network_channel.sendToServer(new RequestSkillTreeMessage(SkillTreeClientData.getTreeHash()));
+	}
+}
@@ -0,0 +1,69 @@
+package daripher.skilltree.network.message;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import daripher.skilltree.capability.skill.IPlayerSkills;
+import daripher.skilltree.capability.skill.PlayerSkillsProvider;
+import daripher.skilltree.client.SkillTreeClientData;
+import daripher.skilltree.skill.PassiveSkill;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+
+public class SkillsLearnedMessage {
+	private int[] skillOrdinals;
+	private int skillPoints;
+	private int checksum;
+
+	private SkillsLearnedMessage() {
+	}
+
+	public SkillsLearnedMessage(Player player, Collection<PassiveSkill> skills) {
+		IPlayerSkills skillsCapability = PlayerSkillsProvider.get(player);
+		skillOrdinals = skills.stream().mapToInt(PassiveSkill::getOrdinal).toArray();
+		skillPoints = skillsCapability.getSkillPoints();
+		checksum = skillsCapability.getChecksum();
+	}
+
+	public static SkillsLearnedMessage decode(FriendlyByteBuf buf) {
+		var result = new SkillsLearnedMessage();
+		result.skillOrdinals = buf.readVarIntArray();
+		result.skillPoints = buf.readInt();
+		result.checksum = buf.readInt();
+		return result;
+	}
+
+	public void encode(FriendlyByteBuf buf) {
+		buf.writeVarIntArray(skillOrdinals);
+		buf.writeInt(skillPoints);
+		buf.writeInt(checksum);
+	}
+
+	public static void receive(SkillsLearnedMessage message, Supplier<NetworkEvent.Context> ctxSupplier) {
+		var ctx = ctxSupplier.get();
+		ctx.setPacketHandled(true);
+		ctx.enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> handlePacket(message)));
+	}
+
+	@OnlyIn(value = Dist.CLIENT)
+	private static void handlePacket(SkillsLearnedMessage message) {
+		var skillsCapability = PlayerSkillsProvider.get(Minecraft.getInstance().player);
+		List<PassiveSkill> skills = new ArrayList<>(skillsCapability.getPlayerSkills());
+		boolean applied = true;
+		for (int ordinal : message.skillOrdinals) {
+			PassiveSkill skill = SkillTreeClientData.getSkill(ordinal);
+			if (skill == null) applied = false;
+			else if (!skills.contains(skill)) skills.add(skill);
+		}
+		skillsCapability.setPlayerSkills(skills);
+		skillsCapability.setSkillPoints(message.skillPoints);
+		SyncPlayerSkillsMessage.finishDelta(skillsCapability, applied, message.checksum);
+	}
+}
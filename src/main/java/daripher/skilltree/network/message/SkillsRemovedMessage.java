@@ -0,0 +1,61 @@
+package daripher.skilltree.network.message;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import daripher.skilltree.capability.skill.IPlayerSkills;
+import daripher.skilltree.capability.skill.PlayerSkillsProvider;
+import daripher.skilltree.skill.PassiveSkill;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+
+public class SkillsRemovedMessage {
+	private BitSet removedSkills = new BitSet();
+	private int skillPoints;
+	private int checksum;
+
+	private SkillsRemovedMessage() {
+	}
+
+	public SkillsRemovedMessage(Player player, Collection<PassiveSkill> removedSkills) {
+		IPlayerSkills skillsCapability = PlayerSkillsProvider.get(player);
+		removedSkills.forEach(skill -> this.removedSkills.set(skill.getOrdinal()));
+		skillPoints = skillsCapability.getSkillPoints();
+		checksum = skillsCapability.getChecksum();
+	}
+
+	public static SkillsRemovedMessage decode(FriendlyByteBuf buf) {
+		var result = new SkillsRemovedMessage();
+		result.removedSkills = buf.readBitSet();
+		result.skillPoints = buf.readInt();
+		result.checksum = buf.readInt();
+		return result;
+	}
+
+	public void encode(FriendlyByteBuf buf) {
+		buf.writeBitSet(removedSkills);
+		buf.writeInt(skillPoints);
+		buf.writeInt(checksum);
+	}
+
+	public static void receive(SkillsRemovedMessage message, Supplier<NetworkEvent.Context> ctxSupplier) {
+		var ctx = ctxSupplier.get();
+		ctx.setPacketHandled(true);
+		ctx.enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> handlePacket(message)));
+	}
+
+	@OnlyIn(value = Dist.CLIENT)
+	private static void handlePacket(SkillsRemovedMessage message) {
+		var skillsCapability = PlayerSkillsProvider.get(Minecraft.getInstance().player);
+		var skills = skillsCapability.getPlayerSkills().stream().filter(skill -> !message.removedSkills.get(skill.getOrdinal())).toList();
+		skillsCapability.setPlayerSkills(skills);
+		skillsCapability.setSkillPoints(message.skillPoints);
+		SyncPlayerSkillsMessage.finishDelta(skillsCapability, true, message.checksum);
+	}
+}
@@ -2,12 +2,15 @@ package daripher.skilltree.network.message;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Supplier;
 
 import daripher.skilltree.SkillTreeMod;
+import daripher.skilltree.capability.skill.IPlayerSkills;
 import daripher.skilltree.capability.skill.PlayerSkillsProvider;
 import daripher.skilltree.client.SkillTreeClientData;
 import daripher.skilltree.client.screen.SkillTreeScreen;
+import daripher.skilltree.network.NetworkDispatcher;
 import daripher.skilltree.skill.PassiveSkill;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.FriendlyByteBuf;
@@ -57,10 +60,29 @@ public class SyncPlayerSkillsMessage {
 	private static void handlePacket(SyncPlayerSkillsMessage message, NetworkEvent.Context ctx) {
 		var minecraft = Minecraft.getInstance();
 		var skillsCapability = PlayerSkillsProvider.get(minecraft.player);
-		skillsCapability.getPlayerSkills().clear();
 		var skillTreeId = new ResourceLocation(SkillTreeMod.MOD_ID, "tree");
-		message.learnedSkills.stream().map(SkillTreeClientData.getSkillsForTree(skillTreeId)::get).forEach(skillsCapability.getPlayerSkills()::add);
+		var skills = SkillTreeClientData.getSkillsForTree(skillTreeId);
+		skillsCapability.setPlayerSkills(message.learnedSkills.stream().map(skills::get).filter(Objects::nonNull).toList());
 		skillsCapability.setSkillPoints(message.skillPoints);
+		refreshSkillTreeScreen(skillsCapability);
+	}
+
+	/**
+	 * Finishes applying a delta message. If the resulting state doesn't match the server, a full
+	 * snapshot is requested instead, together with the tree if it changed on the server.
+	 */
+	@OnlyIn(value = Dist.CLIENT)
+	static void finishDelta(IPlayerSkills skillsCapability, boolean applied, int checksum) {
+		if (!applied || skillsCapability.getChecksum() != checksum) {
+			NetworkDispatcher.network_channel.sendToServer(new RequestSkillTreeMessage(SkillTreeClientData.getTreeHash()));
+			return;
+		}
+		refreshSkillTreeScreen(skillsCapability);
+	}
+
+	@OnlyIn(value = Dist.CLIENT)
+	private static void refreshSkillTreeScreen(IPlayerSkills skillsCapability) {
+		var minecraft = Minecraft.getInstance();
 		if (minecraft.screen instanceof SkillTreeScreen skillTreeScreen) {
 			skillTreeScreen.skillPoints = skillsCapability.getSkillPoints();
 			skillTreeScreen.init();
@@ -5,20 +5,40 @@ import java.util.function.Supplier;
 import daripher.skilltree.client.SkillTreeClientData;
 import daripher.skilltree.skill.SkillsReloader;
 import daripher.skilltree.util.ByteBufHelper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.network.NetworkEvent;
 
 public class SyncSkillsMessage {
+	private byte[] payload;
+
 	public static SyncSkillsMessage decode(FriendlyByteBuf buf) {
-		SkillTreeClientData.loadFromByteBuf(buf);
-		return new SyncSkillsMessage();
+		var message = new SyncSkillsMessage();
+		message.payload = new byte[buf.readableBytes()];
+		buf.readBytes(message.payload);
+		return message;
 	}
 
 	public void encode(FriendlyByteBuf buf) {
-		ByteBufHelper.writePassiveSkills(buf, SkillsReloader.getSkills().values());
+		ByteBuf encodedSkills = SkillsReloader.getEncodedSkills();
+		buf.writeBytes(encodedSkills, encodedSkills.readerIndex(), encodedSkills.readableBytes());
 	}
 
 	public static void receive(SyncSkillsMessage message, Supplier<NetworkEvent.Context> ctxSupplier) {
-		ctxSupplier.get().setPacketHandled(true);
+		var ctx = ctxSupplier.get();
+		ctx.setPacketHandled(true);
+		ctx.enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> handlePacket(message)));
+	}
+
+	@OnlyIn(value = Dist.CLIENT)
+	private static void handlePacket(SyncSkillsMessage message) {
+		// loaded on the main thread, so skill messages handled before it still see the old ordinals
+		SkillTreeClientData.loadFromByteBuf(new FriendlyByteBuf(Unpooled.wrappedBuffer(message.payload)));
+		SkillTreeClientData.setTreeHash(ByteBufHelper.getPayloadHash(message.payload));
+		SkillTreeClientData.saveToCache(message.payload);
 	}
 }
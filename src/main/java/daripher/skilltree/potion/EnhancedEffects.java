@@ -0,0 +1,65 @@
+package daripher.skilltree.potion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.alchemy.PotionUtils;
+
+/**
+ * Effects of a superior potion with its bonuses applied, built once and shared. Stays valid while
+ * the stack keeps the same tag with the same potion, custom effects list and bonuses.
+ */
+public class EnhancedEffects {
+	private final CompoundTag tag;
+	private final @Nullable Tag potionTag;
+	private final @Nullable Tag customEffectsTag;
+	private final int customEffectsTagSize;
+	private final float durationBonus;
+	private final int strengthBonus;
+	private final List<MobEffectInstance> effects;
+
+	private EnhancedEffects(ItemStack stack, List<MobEffectInstance> originalEffects) {
+		tag = stack.getTag();
+		potionTag = tag.get(PotionUtils.TAG_POTION);
+		customEffectsTag = tag.get(PotionUtils.TAG_CUSTOM_POTION_EFFECTS);
+		customEffectsTagSize = getSize(customEffectsTag);
+		durationBonus = PotionHelper.getDurationBonus(stack);
+		strengthBonus = PotionHelper.getStrengthBonus(stack);
+		List<MobEffectInstance> enhancedEffects = new ArrayList<>(originalEffects.size());
+		originalEffects.forEach(effect -> {
+			int duration = (int) (effect.getDuration() * (1 + durationBonus));
+			int amplifier = effect.getAmplifier() + strengthBonus;
+			enhancedEffects.add(new MobEffectInstance(effect.getEffect(), duration, amplifier));
+		});
+		effects = Collections.unmodifiableList(enhancedEffects);
+	}
+
+	public static EnhancedEffects of(ItemStack stack, List<MobEffectInstance> originalEffects) {
+		return new EnhancedEffects(stack, originalEffects);
+	}
+
+	public boolean isValidFor(ItemStack stack) {
+		CompoundTag stackTag = stack.getTag();
+		if (stackTag != tag) return false;
+		if (stackTag.get(PotionUtils.TAG_POTION) != potionTag) return false;
+		Tag stackCustomEffectsTag = stackTag.get(PotionUtils.TAG_CUSTOM_POTION_EFFECTS);
+		if (stackCustomEffectsTag != customEffectsTag || getSize(stackCustomEffectsTag) != customEffectsTagSize) return false;
+		return PotionHelper.getDurationBonus(stack) == durationBonus && PotionHelper.getStrengthBonus(stack) == strengthBonus;
+	}
+
+	public List<MobEffectInstance> getEffects() {
+		return effects;
+	}
+
+	private static int getSize(@Nullable Tag tag) {
+		return tag instanceof ListTag list ? list.size() : 0;
+	}
+}
@@ -5,7 +5,6 @@ import java.util.Optional;
 import com.google.gson.JsonObject;
 
 import daripher.skilltree.SkillTreeMod;
-import daripher.skilltree.compat.apotheosis.ApotheosisCompatibility;
 import daripher.skilltree.container.ContainerHelper;
 import daripher.skilltree.init.PSTRecipeSerializers;
 import daripher.skilltree.item.ItemHelper;
@@ -21,7 +20,6 @@ import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.UpgradeRecipe;
 import net.minecraft.world.level.Level;
-import net.minecraftforge.fml.ModList;
 
 public class GemInsertionRecipe extends UpgradeRecipe {
 	public GemInsertionRecipe() {
@@ -30,9 +28,7 @@ public class GemInsertionRecipe extends UpgradeRecipe {
 
 	@Override
 	public boolean matches(Container container, Level level) {
-		if (ModList.get().isLoaded("apotheosis")) {
-			if (ApotheosisCompatibility.ISNTANCE.adventureModuleEnabled()) return false;
-		}
+		if (!GemHelper.areGemsEnabled()) return false;
 		ItemStack base = container.getItem(0);
 		if (!isBaseIngredient(base)) return false;
 		ItemStack ingredient = container.getItem(1);
@@ -45,9 +41,7 @@ public class GemInsertionRecipe extends UpgradeRecipe {
 
 	@Override
 	public ItemStack assemble(Container container) {
-		if (ModList.get().isLoaded("apotheosis")) {
-			if (ApotheosisCompatibility.ISNTANCE.adventureModuleEnabled()) return ItemStack.EMPTY;
-		}
+		if (!GemHelper.areGemsEnabled()) return ItemStack.EMPTY;
 		Optional<Player> player = ContainerHelper.getViewingPlayer(container);
 		if (!player.isPresent()) return ItemStack.EMPTY;
 		ItemStack base = container.getItem(0);
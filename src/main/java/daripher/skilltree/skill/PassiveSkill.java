@@ -9,13 +9,8 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.ai.attributes.Attribute;
-import net.minecraft.world.entity.ai.attributes.AttributeInstance;
 import net.minecraft.world.entity.ai.attributes.AttributeModifier;
-import net.minecraft.world.entity.player.Player;
-import top.theillusivec4.curios.api.CuriosApi;
-import top.theillusivec4.curios.common.CuriosHelper.SlotAttributeWrapper;
 
 public class PassiveSkill {
 	private final ResourceLocation id;
@@ -30,6 +25,7 @@ public class PassiveSkill {
 	private List<Pair<Attribute, AttributeModifier>> attributeModifiers = new ArrayList<>();
 	private final List<ResourceLocation> connectedSkills = new ArrayList<>();
 	private float positionX, positionY;
+	private int ordinal = -1;
 
 	public PassiveSkill(ResourceLocation id, ResourceLocation treeId, int buttonSize, ResourceLocation backgroundTexture, ResourceLocation iconTexture, ResourceLocation borderTexture, boolean isStartingPoint) {
 		this.id = id;
@@ -110,6 +106,14 @@ public class PassiveSkill {
 		return positionY;
 	}
 
+	public int getOrdinal() {
+		return ordinal;
+	}
+
+	public void setOrdinal(int ordinal) {
+		this.ordinal = ordinal;
+	}
+
 	public List<ResourceLocation> getConnectedSkills() {
 		return connectedSkills;
 	}
@@ -129,32 +133,4 @@ public class PassiveSkill {
 	public boolean isGateway() {
 		return gatewayId.isPresent();
 	}
-
-	public void learn(ServerPlayer player, boolean restoring) {
-		getAttributeModifiers().forEach(pair -> addAttributeModifier(player, pair.getLeft(), pair.getRight(), restoring));
-	}
-
-	@SuppressWarnings("deprecation")
-	public void addAttributeModifier(ServerPlayer player, Attribute attribute, AttributeModifier modifier, boolean restoring) {
-		if (attribute instanceof SlotAttributeWrapper wrapper) {
-			if (!restoring) CuriosApi.getSlotHelper().growSlotType(wrapper.identifier, (int) modifier.getAmount(), player);
-			return;
-		}
-		AttributeInstance instance = player.getAttribute(attribute);
-		if (!instance.hasModifier(modifier)) instance.addTransientModifier(modifier);
-	}
-
-	public void remove(ServerPlayer player) {
-		getAttributeModifiers().forEach(pair -> removeAttributeModifier(player, pair.getLeft(), pair.getRight()));
-	}
-
-	@SuppressWarnings("deprecation")
-	public void removeAttributeModifier(Player player, Attribute attribute, AttributeModifier modifier) {
-		if (attribute instanceof SlotAttributeWrapper wrapper) {
-			CuriosApi.getSlotHelper().shrinkSlotType(wrapper.identifier, (int) modifier.getAmount(), player);
-			return;
-		}
-		AttributeInstance instance = player.getAttribute(attribute);
-		if (instance.hasModifier(modifier)) instance.removeModifier(modifier);
-	}
 }
@@ -1,6 +1,9 @@
 package daripher.skilltree.skill;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.annotation.Nullable;
@@ -12,7 +15,11 @@ import com.google.gson.JsonElement;
 import com.mojang.logging.LogUtils;
 
 import daripher.skilltree.SkillTreeMod;
+import daripher.skilltree.util.ByteBufHelper;
 import daripher.skilltree.util.JsonHelper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
@@ -26,7 +33,11 @@ import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 public class SkillsReloader extends SimpleJsonResourceReloadListener {
 	private static final Logger LOGGER = LogUtils.getLogger();
 	private static final Gson GSON = Deserializers.createLootTableSerializer().create();
-	private static final Map<ResourceLocation, PassiveSkill> SKILLS = new HashMap<>();
+	private static final Map<ResourceLocation, PassiveSkill> SKILLS = new LinkedHashMap<>();
+	private static final List<PassiveSkill> SKILLS_BY_ORDINAL = new ArrayList<>();
+	private static final Map<ResourceLocation, List<PassiveSkill>> CONNECTIONS = new HashMap<>();
+	private static @Nullable ByteBuf encodedSkills;
+	private static @Nullable String encodedSkillsHash;
 
 	public SkillsReloader() {
 		super(GSON, "skills");
@@ -40,24 +51,82 @@ public class SkillsReloader extends SimpleJsonResourceReloadListener {
 	@Override
 	protected void apply(Map<ResourceLocation, JsonElement> map, ResourceManager resourceManager, ProfilerFiller profilerFiller) {
 		SKILLS.clear();
-		map.forEach(this::readSkill);
+		SKILLS_BY_ORDINAL.clear();
+		// ordinals follow the sorted ids, so they are the same after every reload of the same data
+		map.keySet().stream().sorted().forEach(id -> readSkill(id, map.get(id)));
+		SKILLS_BY_ORDINAL.addAll(SKILLS.values());
+		connectSkills();
+		invalidateEncodedSkills();
 	}
 
 	protected void readSkill(ResourceLocation id, JsonElement json) {
 		try {
-			SKILLS.put(id, JsonHelper.readPassiveSkill(id, json.getAsJsonObject()));
+			PassiveSkill skill = JsonHelper.readPassiveSkill(id, json.getAsJsonObject());
+			skill.setOrdinal(SKILLS.size());
+			SKILLS.put(id, skill);
 			LOGGER.info("Loading passive skill {}", id);
 		} catch (Exception exception) {
 			LOGGER.error("Couldn't load passive skill {}", id, exception);
 		}
 	}
 
+	private static void connectSkills() {
+		CONNECTIONS.clear();
+		SKILLS.values().forEach(skill -> skill.getConnectedSkills().forEach(connectedId -> {
+			PassiveSkill connectedSkill = SKILLS.get(connectedId);
+			if (connectedSkill == null) return;
+			CONNECTIONS.computeIfAbsent(skill.getId(), id -> new ArrayList<>()).add(connectedSkill);
+			CONNECTIONS.computeIfAbsent(connectedId, id -> new ArrayList<>()).add(skill);
+		}));
+	}
+
 	@Nullable
 	public static PassiveSkill getSkillById(ResourceLocation id) {
 		return SKILLS.get(id);
 	}
 
+	@Nullable
+	public static PassiveSkill getSkill(int ordinal) {
+		if (ordinal < 0 || ordinal >= SKILLS_BY_ORDINAL.size()) return null;
+		return SKILLS_BY_ORDINAL.get(ordinal);
+	}
+
+	/**
+	 * @return loaded skills connected to this skill in either direction
+	 */
+	public static List<PassiveSkill> getConnectedSkills(PassiveSkill skill) {
+		return CONNECTIONS.getOrDefault(skill.getId(), List.of());
+	}
+
 	public static Map<ResourceLocation, PassiveSkill> getSkills() {
 		return SKILLS;
 	}
+
+	/**
+	 * @return read-only buffer with all loaded skills, encoded once per reload and shared between all
+	 *         sync messages
+	 */
+	public static synchronized ByteBuf getEncodedSkills() {
+		if (encodedSkills == null) encodeSkills();
+		return encodedSkills;
+	}
+
+	public static synchronized String getEncodedSkillsHash() {
+		if (encodedSkills == null) encodeSkills();
+		return encodedSkillsHash;
+	}
+
+	private static void encodeSkills() {
+		FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+		ByteBufHelper.writePassiveSkills(buf, SKILLS.values());
+		byte[] payload = new byte[buf.readableBytes()];
+		buf.getBytes(buf.readerIndex(), payload);
+		encodedSkills = buf.asReadOnly();
+		encodedSkillsHash = ByteBufHelper.getPayloadHash(payload);
+	}
+
+	private static synchronized void invalidateEncodedSkills() {
+		encodedSkills = null;
+		encodedSkillsHash = null;
+	}
 }
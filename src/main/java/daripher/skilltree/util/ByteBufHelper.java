@@ -2,15 +2,20 @@ package daripher.skilltree.util;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 
+import com.google.common.hash.Hashing;
 import com.mojang.logging.LogUtils;
 
 import daripher.skilltree.skill.PassiveSkill;
+import io.netty.handler.codec.DecoderException;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.ai.attributes.Attribute;
@@ -20,92 +25,173 @@ import net.minecraftforge.registries.ForgeRegistries;
 import top.theillusivec4.curios.common.CuriosHelper;
 import top.theillusivec4.curios.common.CuriosHelper.SlotAttributeWrapper;
 
+/**
+ * Skill tree wire format. All strings are written once into a table at the start of the payload and
+ * referenced by index, counts are varints, connections between skills are ordinals within the
+ * payload and modifier amounts are sent as floats when that doesn't lose precision.
+ */
 public class ByteBufHelper {
 	private static final Logger LOGGER = LogUtils.getLogger();
+	private static final int FORMAT_VERSION = 1;
+	private static final int DOUBLE_AMOUNT_FLAG = 0x80;
 
-	public static void writeOptionalResourceLocation(FriendlyByteBuf buf, Optional<ResourceLocation> location) {
-		buf.writeBoolean(location.isPresent());
-		if (location.isPresent()) buf.writeUtf(location.get().toString());
+	public static void writePassiveSkills(FriendlyByteBuf buf, Collection<PassiveSkill> skills) {
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		Map<ResourceLocation, Integer> ordinals = new HashMap<>();
+		for (PassiveSkill skill : skills) {
+			ordinals.put(skill.getId(), ordinals.size());
+			collectStrings(strings, skill);
+		}
+		buf.writeVarInt(FORMAT_VERSION);
+		buf.writeVarInt(strings.size());
+		strings.keySet().forEach(buf::writeUtf);
+		buf.writeVarInt(skills.size());
+		skills.forEach(skill -> writePassiveSkill(buf, skill, strings, ordinals));
 	}
 
-	public static void writeAttributeModifier(FriendlyByteBuf buf, Pair<Attribute, AttributeModifier> pair) {
-		writeAttribute(buf, pair.getLeft());
-		AttributeModifier modifier = pair.getRight();
-		double amount = modifier.getAmount();
-		Operation operation = modifier.getOperation();
-		buf.writeDouble(amount);
-		buf.writeInt(operation.ordinal());
+	private static void collectStrings(Map<String, Integer> strings, PassiveSkill skill) {
+		addString(strings, skill.getId().toString());
+		addString(strings, skill.getTreeId().toString());
+		addString(strings, skill.getBackgroundTexture().toString());
+		addString(strings, skill.getIconTexture().toString());
+		addString(strings, skill.getBorderTexture().toString());
+		skill.getConnectedSkills().forEach(id -> addString(strings, id.toString()));
+		skill.getConnectedTreeId().ifPresent(id -> addString(strings, id.toString()));
+		skill.getAttributeModifiers().forEach(pair -> addString(strings, getAttributeId(pair.getLeft())));
+		skill.getGatewayId().ifPresent(id -> addString(strings, id.toString()));
 	}
 
-	public static void writeAttribute(FriendlyByteBuf buf, Attribute attribute) {
-		String attributeId;
-		if (attribute instanceof SlotAttributeWrapper wrapper) {
-			attributeId = "curios:" + wrapper.identifier;
-		} else {
-			attributeId = ForgeRegistries.ATTRIBUTES.getKey(attribute).toString();
+	private static void addString(Map<String, Integer> strings, String string) {
+		if (!strings.containsKey(string)) strings.put(string, strings.size());
+	}
+
+	private static void writePassiveSkill(FriendlyByteBuf buf, PassiveSkill skill, Map<String, Integer> strings, Map<ResourceLocation, Integer> ordinals) {
+		writeString(buf, strings, skill.getId().toString());
+		writeString(buf, strings, skill.getTreeId().toString());
+		buf.writeVarInt(skill.getButtonSize());
+		writeString(buf, strings, skill.getBackgroundTexture().toString());
+		writeString(buf, strings, skill.getIconTexture().toString());
+		writeString(buf, strings, skill.getBorderTexture().toString());
+		buf.writeBoolean(skill.isStartingPoint());
+		buf.writeFloat(skill.getPositionX());
+		buf.writeFloat(skill.getPositionY());
+		writeConnections(buf, skill.getConnectedSkills(), strings, ordinals);
+		writeOptionalString(buf, strings, skill.getConnectedTreeId());
+		writeAttributeModifiers(buf, skill.getAttributeModifiers(), strings);
+		writeOptionalString(buf, strings, skill.getGatewayId());
+	}
+
+	private static void writeString(FriendlyByteBuf buf, Map<String, Integer> strings, String string) {
+		buf.writeVarInt(strings.get(string));
+	}
+
+	private static void writeOptionalString(FriendlyByteBuf buf, Map<String, Integer> strings, Optional<ResourceLocation> location) {
+		// 0 means empty, otherwise string index + 1
+		buf.writeVarInt(location.map(id -> strings.get(id.toString()) + 1).orElse(0));
+	}
+
+	private static void writeConnections(FriendlyByteBuf buf, List<ResourceLocation> connections, Map<String, Integer> strings, Map<ResourceLocation, Integer> ordinals) {
+		buf.writeVarInt(connections.size());
+		for (ResourceLocation id : connections) {
+			Integer ordinal = ordinals.get(id);
+			// skills that aren't loaded can't be referenced by ordinal, so their ids are kept
+			if (ordinal != null) buf.writeVarInt(ordinal << 1);
+			else buf.writeVarInt(strings.get(id.toString()) << 1 | 1);
 		}
-		buf.writeUtf(attributeId);
 	}
 
-	public static void writeResourceLocations(FriendlyByteBuf buf, List<ResourceLocation> locations) {
-		buf.writeInt(locations.size());
-		locations.forEach(location -> buf.writeUtf(location.toString()));
+	private static void writeAttributeModifiers(FriendlyByteBuf buf, List<Pair<Attribute, AttributeModifier>> modifiers, Map<String, Integer> strings) {
+		buf.writeVarInt(modifiers.size());
+		for (Pair<Attribute, AttributeModifier> pair : modifiers) {
+			writeString(buf, strings, getAttributeId(pair.getLeft()));
+			AttributeModifier modifier = pair.getRight();
+			double amount = modifier.getAmount();
+			int operation = modifier.getOperation().ordinal();
+			if (isFloatPrecise(amount)) {
+				buf.writeByte(operation);
+				buf.writeFloat((float) amount);
+			} else {
+				buf.writeByte(operation | DOUBLE_AMOUNT_FLAG);
+				buf.writeDouble(amount);
+			}
+		}
 	}
 
-	public static void writeAttributeModifiers(FriendlyByteBuf buf, List<Pair<Attribute, AttributeModifier>> modifiers) {
-		buf.writeInt(modifiers.size());
-		modifiers.forEach(modifier -> writeAttributeModifier(buf, modifier));
+	private static boolean isFloatPrecise(double amount) {
+		return Double.parseDouble(Float.toString((float) amount)) == amount;
 	}
 
-	public static void writePassiveSkill(FriendlyByteBuf buf, PassiveSkill skill) {
-		buf.writeUtf(skill.getId().toString());
-		buf.writeUtf(skill.getTreeId().toString());
-		buf.writeInt(skill.getButtonSize());
-		buf.writeUtf(skill.getBackgroundTexture().toString());
-		buf.writeUtf(skill.getIconTexture().toString());
-		buf.writeUtf(skill.getBorderTexture().toString());
-		buf.writeBoolean(skill.isStartingPoint());
-		buf.writeFloat(skill.getPositionX());
-		buf.writeFloat(skill.getPositionY());
-		writeResourceLocations(buf, skill.getConnectedSkills());
-		writeOptionalResourceLocation(buf, skill.getConnectedTreeId());
-		writeAttributeModifiers(buf, skill.getAttributeModifiers());
-		writeOptionalResourceLocation(buf, skill.getGatewayId());
+	private static String getAttributeId(Attribute attribute) {
+		if (attribute instanceof SlotAttributeWrapper wrapper) return "curios:" + wrapper.identifier;
+		return ForgeRegistries.ATTRIBUTES.getKey(attribute).toString();
 	}
 
-	public static void writePassiveSkills(FriendlyByteBuf buf, Collection<PassiveSkill> skills) {
-		buf.writeInt(skills.size());
-		skills.forEach(skill -> writePassiveSkill(buf, skill));
+	public static String getPayloadHash(byte[] payload) {
+		return Hashing.sha256().hashBytes(payload).toString();
 	}
 
-	public static List<ResourceLocation> readResourceLocations(FriendlyByteBuf buf) {
-		int count = buf.readInt();
-		List<ResourceLocation> locations = new ArrayList<>();
-		for (int i = 0; i < count; i++) locations.add(new ResourceLocation(buf.readUtf()));
-		return locations;
+	public static List<PassiveSkill> readPassiveSkills(FriendlyByteBuf buf) {
+		int version = buf.readVarInt();
+		if (version != FORMAT_VERSION) {
+			throw new DecoderException("Unsupported skill tree format version " + version + ", expected " + FORMAT_VERSION);
+		}
+		String[] strings = new String[buf.readVarInt()];
+		for (int i = 0; i < strings.length; i++) strings[i] = buf.readUtf();
+		int count = buf.readVarInt();
+		List<PassiveSkill> skills = new ArrayList<>();
+		List<int[]> connections = new ArrayList<>();
+		for (int i = 0; i < count; i++) skills.add(readPassiveSkill(buf, strings, connections));
+		for (int i = 0; i < count; i++) {
+			List<ResourceLocation> connectedSkills = skills.get(i).getConnectedSkills();
+			for (int connection : connections.get(i)) {
+				if ((connection & 1) == 0) connectedSkills.add(skills.get(connection >> 1).getId());
+				else connectedSkills.add(new ResourceLocation(strings[connection >> 1]));
+			}
+		}
+		return skills;
+	}
+
+	private static PassiveSkill readPassiveSkill(FriendlyByteBuf buf, String[] strings, List<int[]> connections) {
+		ResourceLocation id = readResourceLocation(buf, strings);
+		ResourceLocation treeId = readResourceLocation(buf, strings);
+		int size = buf.readVarInt();
+		ResourceLocation background = readResourceLocation(buf, strings);
+		ResourceLocation icon = readResourceLocation(buf, strings);
+		ResourceLocation border = readResourceLocation(buf, strings);
+		boolean startingPoint = buf.readBoolean();
+		PassiveSkill skill = new PassiveSkill(id, treeId, size, background, icon, border, startingPoint);
+		skill.setPosition(buf.readFloat(), buf.readFloat());
+		int[] skillConnections = new int[buf.readVarInt()];
+		for (int i = 0; i < skillConnections.length; i++) skillConnections[i] = buf.readVarInt();
+		connections.add(skillConnections);
+		skill.setConnectedTree(readOptionalResourceLocation(buf, strings));
+		int modifiersCount = buf.readVarInt();
+		for (int i = 0; i < modifiersCount; i++) skill.addAttributeBonus(readAttributeModifier(buf, strings));
+		skill.setGatewayId(readOptionalResourceLocation(buf, strings));
+		return skill;
 	}
 
-	public static Optional<ResourceLocation> readOptionalResourceLocation(FriendlyByteBuf buf) {
-		return buf.readBoolean() ? Optional.of(new ResourceLocation(buf.readUtf())) : Optional.empty();
+	private static ResourceLocation readResourceLocation(FriendlyByteBuf buf, String[] strings) {
+		return new ResourceLocation(strings[buf.readVarInt()]);
 	}
 
-	public static List<Pair<Attribute, AttributeModifier>> readAttributeModifiers(FriendlyByteBuf buf) {
-		int count = buf.readInt();
-		List<Pair<Attribute, AttributeModifier>> modifiers = new ArrayList<>();
-		for (int i = 0; i < count; i++) modifiers.add(readAttributeModifier(buf));
-		return modifiers;
+	private static Optional<ResourceLocation> readOptionalResourceLocation(FriendlyByteBuf buf, String[] strings) {
+		int index = buf.readVarInt();
+		return index == 0 ? Optional.empty() : Optional.of(new ResourceLocation(strings[index - 1]));
 	}
 
-	public static Pair<Attribute, AttributeModifier> readAttributeModifier(FriendlyByteBuf buf) {
-		Attribute attribute = readAttribute(buf);
-		double amount = buf.readDouble();
-		Operation operation = Operation.values()[buf.readInt()];
+	private static Pair<Attribute, AttributeModifier> readAttributeModifier(FriendlyByteBuf buf, String[] strings) {
+		Attribute attribute = getAttribute(strings[buf.readVarInt()]);
+		int operationByte = buf.readUnsignedByte();
+		Operation operation = Operation.values()[operationByte & ~DOUBLE_AMOUNT_FLAG];
+		double amount;
+		if ((operationByte & DOUBLE_AMOUNT_FLAG) != 0) amount = buf.readDouble();
+		else amount = Double.parseDouble(Float.toString(buf.readFloat()));
 		AttributeModifier modifier = new AttributeModifier("Passive Skill Bonus", amount, operation);
 		return Pair.of(attribute, modifier);
 	}
 
-	public static Attribute readAttribute(FriendlyByteBuf buf) {
-		String attributeId = buf.readUtf();
+	private static Attribute getAttribute(String attributeId) {
 		Attribute attribute;
 		if (attributeId.startsWith("curios:")) {
 			attributeId = attributeId.replace("curios:", "");
@@ -116,28 +202,4 @@ public class ByteBufHelper {
 		if (attribute == null) LOGGER.error("Attribute {} does not exist", attributeId);
 		return attribute;
 	}
-
-	public static PassiveSkill readPassiveSkill(FriendlyByteBuf buf) {
-		ResourceLocation id = new ResourceLocation(buf.readUtf());
-		ResourceLocation treeId = new ResourceLocation(buf.readUtf());
-		int size = buf.readInt();
-		ResourceLocation background = new ResourceLocation(buf.readUtf());
-		ResourceLocation icon = new ResourceLocation(buf.readUtf());
-		ResourceLocation border = new ResourceLocation(buf.readUtf());
-		boolean startingPoint = buf.readBoolean();
-		PassiveSkill skill = new PassiveSkill(id, treeId, size, background, icon, border, startingPoint);
-		skill.setPosition(buf.readFloat(), buf.readFloat());
-		readResourceLocations(buf).forEach(skill.getConnectedSkills()::add);
-		skill.setConnectedTree(readOptionalResourceLocation(buf));
-		readAttributeModifiers(buf).forEach(skill::addAttributeBonus);
-		skill.setGatewayId(readOptionalResourceLocation(buf));
-		return skill;
-	}
-
-	public static List<PassiveSkill> readPassiveSkills(FriendlyByteBuf buf) {
-		int count = buf.readInt();
-		List<PassiveSkill> skills = new ArrayList<>();
-		for (int i = 0; i < count; i++) skills.add(readPassiveSkill(buf));
-		return skills;
-	}
 }
@@ -1,8 +1,14 @@
 package daripher.skilltree.util;
 
+import daripher.skilltree.api.CuriosIndexContainer;
+import daripher.skilltree.api.EquipmentProfileContainer;
+import daripher.skilltree.api.TrackedAttributeMap;
+import daripher.skilltree.attribute.IndexedAttribute;
+import daripher.skilltree.combat.CombatContext;
 import daripher.skilltree.init.PSTAttributes;
+import daripher.skilltree.item.CuriosIndex;
+import daripher.skilltree.item.EquipmentProfile;
 import daripher.skilltree.item.ItemHelper;
-import daripher.skilltree.item.gem.GemHelper;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
@@ -11,133 +17,149 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.damagesource.EntityDamageSource;
-import net.minecraft.world.effect.MobEffects;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.Attribute;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.ToolActions;
 import net.minecraftforge.event.ForgeEventFactory;
+import net.minecraftforge.registries.RegistryObject;
 
 public class PlayerHelper {
-	public static float getDamageMultiplier(ServerPlayer player, LivingEntity target, boolean melee) {
+	public static float getDamageMultiplier(CombatContext context) {
+		ServerPlayer player = context.getAttacker();
+		EquipmentProfile equipment = context.getEquipment();
 		double multiplier = 1D;
-		if (target.hasEffect(MobEffects.POISON)) {
-			multiplier += player.getAttributeValue(PSTAttributes.DAMAGE_AGAINST_POISONED.get()) - 1;
+		if (context.isTargetPoisoned()) {
+			multiplier += getAttributeValue(player, PSTAttributes.DAMAGE_AGAINST_POISONED) - 1;
 		}
-		if (ItemHelper.isShield(player.getOffhandItem())) {
-			multiplier += player.getAttributeValue(PSTAttributes.DAMAGE_WITH_SHIELD.get()) - 1;
+		if (equipment.hasShield()) {
+			multiplier += getAttributeValue(player, PSTAttributes.DAMAGE_WITH_SHIELD) - 1;
 		}
-		if (ItemHelper.isWeapon(player.getMainHandItem()) && player.getMainHandItem().isEnchanted()) {
-			multiplier += player.getAttributeValue(PSTAttributes.DAMAGE_WITH_ENCHANTED_WEAPON.get()) - 1;
+		if (equipment.hasWeapon() && equipment.isEnchanted(EquipmentSlot.MAINHAND)) {
+			multiplier += getAttributeValue(player, PSTAttributes.DAMAGE_WITH_ENCHANTED_WEAPON) - 1;
 		}
-		if (GemHelper.hasGem(player.getMainHandItem(), 0)) {
-			int gems = GemHelper.getGemsCount(player.getMainHandItem());
-			double damagePerGem = player.getAttributeValue(PSTAttributes.DAMAGE_PER_GEM_IN_WEAPON.get()) - 1;
+		if (equipment.hasGemInWeapon()) {
+			int gems = equipment.getGems(EquipmentSlot.MAINHAND);
+			double damagePerGem = getAttributeValue(player, PSTAttributes.DAMAGE_PER_GEM_IN_WEAPON) - 1;
 			multiplier += damagePerGem * gems;
-			multiplier += player.getAttributeValue(PSTAttributes.DAMAGE_WITH_GEM_IN_WEAPON.get()) - 1;
+			multiplier += getAttributeValue(player, PSTAttributes.DAMAGE_WITH_GEM_IN_WEAPON) - 1;
 		}
-		if (player.getFoodData().getFoodLevel() >= 10) {
-			multiplier += player.getAttributeValue(PSTAttributes.DAMAGE_IF_NOT_HUNGRY.get()) - 1;
+		int foodLevel = context.getFoodLevel();
+		if (foodLevel >= 10) {
+			multiplier += getAttributeValue(player, PSTAttributes.DAMAGE_IF_NOT_HUNGRY) - 1;
 		}
-		if (!player.getActiveEffects().isEmpty()) {
-			double damagePerEffect = player.getAttributeValue(PSTAttributes.DAMAGE_PER_POTION_EFFECT.get()) - 1;
-			multiplier += player.getActiveEffects().size() * damagePerEffect;
-			multiplier += player.getAttributeValue(PSTAttributes.DAMAGE_UNDER_POTION_EFFECT.get()) - 1;
+		int activeEffects = context.getActiveEffects();
+		if (activeEffects > 0) {
+			double damagePerEffect = getAttributeValue(player, PSTAttributes.DAMAGE_PER_POTION_EFFECT) - 1;
+			multiplier += activeEffects * damagePerEffect;
+			multiplier += getAttributeValue(player, PSTAttributes.DAMAGE_UNDER_POTION_EFFECT) - 1;
 		}
-		for (EquipmentSlot slot : EquipmentSlot.values()) {
-			ItemStack itemInSlot = player.getItemBySlot(slot);
-			if (!itemInSlot.isEnchanted()) continue;
-			double damagePerEnchantment = player.getAttributeValue(PSTAttributes.DAMAGE_PER_ENCHANTMENT.get()) - 1;
-			int enchantments = itemInSlot.getAllEnchantments().size();
+		int enchantments = equipment.getEnchantments();
+		if (enchantments > 0) {
+			double damagePerEnchantment = getAttributeValue(player, PSTAttributes.DAMAGE_PER_ENCHANTMENT) - 1;
 			multiplier += damagePerEnchantment * enchantments;
 		}
-		for (int enchantmentLevel : player.getMainHandItem().getAllEnchantments().values()) {
-			double damagePerEnchantmentLevel = player.getAttributeValue(PSTAttributes.DAMAGE_PER_WEAPON_ENCHANTMENT_LEVEL.get()) - 1;
-			multiplier += damagePerEnchantmentLevel * enchantmentLevel;
+		int weaponEnchantmentLevels = equipment.getWeaponEnchantmentLevels();
+		if (weaponEnchantmentLevels > 0) {
+			double damagePerEnchantmentLevel = getAttributeValue(player, PSTAttributes.DAMAGE_PER_WEAPON_ENCHANTMENT_LEVEL) - 1;
+			multiplier += damagePerEnchantmentLevel * weaponEnchantmentLevels;
 		}
-		int foodLevel = player.getFoodData().getFoodLevel();
 		if (foodLevel > 0) {
-			double damagePerSatisfiedHunger = player.getAttributeValue(PSTAttributes.DAMAGE_PER_SATISFIED_HUNGER.get()) - 1;
+			double damagePerSatisfiedHunger = getAttributeValue(player, PSTAttributes.DAMAGE_PER_SATISFIED_HUNGER) - 1;
 			multiplier += foodLevel * damagePerSatisfiedHunger;
 		}
-		if (player.getHealth() < player.getMaxHealth()) {
-			multiplier += player.getAttributeValue(PSTAttributes.DAMAGE_IF_DAMAGED.get()) - 1;
+		if (context.isAttackerDamaged()) {
+			multiplier += getAttributeValue(player, PSTAttributes.DAMAGE_IF_DAMAGED) - 1;
 		}
-		if (player.getHealth() < player.getMaxHealth() / 2) {
-			multiplier += player.getAttributeValue(PSTAttributes.DAMAGE_IF_WOUNDED.get()) - 1;
+		if (context.isAttackerWounded()) {
+			multiplier += getAttributeValue(player, PSTAttributes.DAMAGE_IF_WOUNDED) - 1;
 		}
-		if (target.isOnFire()) {
-			multiplier += player.getAttributeValue(PSTAttributes.DAMAGE_AGAINST_BURNING.get()) - 1;
+		if (context.isTargetBurning()) {
+			multiplier += getAttributeValue(player, PSTAttributes.DAMAGE_AGAINST_BURNING) - 1;
 		}
-		if (melee) multiplier += player.getAttributeValue(PSTAttributes.MELEE_DAMAGE.get()) - 1;
-		double damageBonusPerDistance = player.getAttributeValue(PSTAttributes.DAMAGE_PER_DISTANCE_TO_ENEMY.get()) - 1;
-		multiplier += damageBonusPerDistance * player.distanceTo(target);
+		if (context.isMelee()) multiplier += getAttributeValue(player, PSTAttributes.MELEE_DAMAGE) - 1;
+		double damageBonusPerDistance = getAttributeValue(player, PSTAttributes.DAMAGE_PER_DISTANCE_TO_ENEMY) - 1;
+		multiplier += damageBonusPerDistance * context.getDistance();
 		multiplier += getDamagePerDistanceToSpawn(player);
 		return (float) multiplier;
 	}
 
-	public static float getProjectileDamageMultiplier(ServerPlayer player, LivingEntity target, Entity projectile, DamageSource damageSource) {
-		double critChance = player.getAttributeValue(PSTAttributes.PROJECTILE_CRIT_CHANCE.get()) - 1;
-		critChance += getCritChance(player, target);
-		double multiplier = player.getAttributeValue(PSTAttributes.PROJECTILE_DAMAGE.get());
+	public static float getProjectileDamageMultiplier(CombatContext context) {
+		ServerPlayer player = context.getAttacker();
+		double critChance = getAttributeValue(player, PSTAttributes.PROJECTILE_CRIT_CHANCE) - 1;
+		critChance += getCritChance(context);
+		double multiplier = getAttributeValue(player, PSTAttributes.PROJECTILE_DAMAGE);
 		boolean criticalHit = player.getRandom().nextFloat() < critChance;
 		if (criticalHit) {
 			multiplier += 0.5F;
-			multiplier += player.getAttributeValue(PSTAttributes.PROJECTILE_CRIT_DAMAGE.get()) - 1;
-			multiplier += getCritDamage(player, target, false);
+			multiplier += getAttributeValue(player, PSTAttributes.PROJECTILE_CRIT_DAMAGE) - 1;
+			multiplier += getCritDamage(context);
 		}
-		multiplier += getDamageMultiplier(player, target, false) - 1;
+		multiplier += getDamageMultiplier(context) - 1;
 		return (float) multiplier;
 	}
 
-	public static float getCritChance(ServerPlayer player, LivingEntity target) {
-		double chance = player.getAttributeValue(PSTAttributes.CRIT_CHANCE.get()) - 1;
-		if (target.hasEffect(MobEffects.POISON)) {
-			chance += player.getAttributeValue(PSTAttributes.CRIT_CHANCE_AGAINST_POISONED.get()) - 1;
-		}
-		if (ItemHelper.isShield(player.getOffhandItem())) {
-			chance += player.getAttributeValue(PSTAttributes.CRIT_CHANCE_WITH_SHIELD.get()) - 1;
-		}
-		if (target.isOnFire()) {
-			chance += player.getAttributeValue(PSTAttributes.CRIT_CHANCE_AGAINST_BURNING.get()) - 1;
-		}
-		for (EquipmentSlot slot : EquipmentSlot.values()) {
-			ItemStack itemInSlot = player.getItemBySlot(slot);
-			if (!itemInSlot.isEnchanted()) continue;
-			double critChancePerEnchantment = player.getAttributeValue(PSTAttributes.CRIT_CHANCE_PER_ENCHANTMENT.get()) - 1;
-			int enchantmentCount = itemInSlot.getAllEnchantments().size();
+	public static float getCritChance(CombatContext context) {
+		ServerPlayer player = context.getAttacker();
+		double chance = getAttributeValue(player, PSTAttributes.CRIT_CHANCE) - 1;
+		if (context.isTargetPoisoned()) {
+			chance += getAttributeValue(player, PSTAttributes.CRIT_CHANCE_AGAINST_POISONED) - 1;
+		}
+		EquipmentProfile equipment = context.getEquipment();
+		if (equipment.hasShield()) {
+			chance += getAttributeValue(player, PSTAttributes.CRIT_CHANCE_WITH_SHIELD) - 1;
+		}
+		if (context.isTargetBurning()) {
+			chance += getAttributeValue(player, PSTAttributes.CRIT_CHANCE_AGAINST_BURNING) - 1;
+		}
+		int enchantmentCount = equipment.getEnchantments();
+		if (enchantmentCount > 0) {
+			double critChancePerEnchantment = getAttributeValue(player, PSTAttributes.CRIT_CHANCE_PER_ENCHANTMENT) - 1;
 			chance += critChancePerEnchantment * enchantmentCount;
 		}
 		return (float) chance;
 	}
 
-	public static float getCritDamage(ServerPlayer player, LivingEntity target, boolean melee) {
-		double multiplier = player.getAttributeValue(PSTAttributes.CRIT_DAMAGE.get()) - 1;
-		ItemStack mainhandItem = player.getMainHandItem();
-		if (ItemHelper.isWeapon(mainhandItem)) {
-			double critDamagePerEnchantment = player.getAttributeValue(PSTAttributes.CRIT_DAMAGE_PER_WEAPON_ENCHANTMENT.get()) - 1;
-			int enchantments = mainhandItem.getAllEnchantments().size();
+	public static float getCritDamage(CombatContext context) {
+		ServerPlayer player = context.getAttacker();
+		double multiplier = getAttributeValue(player, PSTAttributes.CRIT_DAMAGE) - 1;
+		EquipmentProfile equipment = context.getEquipment();
+		if (equipment.hasWeapon()) {
+			double critDamagePerEnchantment = getAttributeValue(player, PSTAttributes.CRIT_DAMAGE_PER_WEAPON_ENCHANTMENT) - 1;
+			int enchantments = equipment.getEnchantments(EquipmentSlot.MAINHAND);
 			multiplier += critDamagePerEnchantment * enchantments;
 		}
-		if (ItemHelper.isShield(player.getOffhandItem())) {
-			multiplier +=  player.getAttributeValue(PSTAttributes.CRIT_DAMAGE_WITH_SHIELD.get()) - 1;
+		if (equipment.hasShield()) {
+			multiplier +=  getAttributeValue(player, PSTAttributes.CRIT_DAMAGE_WITH_SHIELD) - 1;
 		}
-		int foodLevel = player.getFoodData().getFoodLevel();
+		int foodLevel = context.getFoodLevel();
 		if (foodLevel > 0) {
-			double critDamagePerSatisfiedHunger = player.getAttributeValue(PSTAttributes.CRIT_DAMAGE_PER_SATISFIED_HUNGER.get()) - 1;
+			double critDamagePerSatisfiedHunger = getAttributeValue(player, PSTAttributes.CRIT_DAMAGE_PER_SATISFIED_HUNGER) - 1;
 			multiplier += foodLevel * critDamagePerSatisfiedHunger;
 		}
-		if (target.hasEffect(MobEffects.POISON)) {
-			multiplier +=  player.getAttributeValue(PSTAttributes.CRIT_DAMAGE_AGAINST_POISONED.get()) - 1;
+		if (context.isTargetPoisoned()) {
+			multiplier +=  getAttributeValue(player, PSTAttributes.CRIT_DAMAGE_AGAINST_POISONED) - 1;
 		}
-		if (melee) multiplier += player.getAttributeValue(PSTAttributes.MELEE_CRIT_DAMAGE.get()) - 1;
+		if (context.isMelee()) multiplier += getAttributeValue(player, PSTAttributes.MELEE_CRIT_DAMAGE) - 1;
 		return (float) multiplier;
 	}
 
+	public static double getAttributeValue(LivingEntity entity, RegistryObject<Attribute> attribute) {
+		return ((TrackedAttributeMap) entity.getAttributes()).getIndexedValue((IndexedAttribute) attribute.get());
+	}
+
+	public static EquipmentProfile getEquipmentProfile(Player player) {
+		return ((EquipmentProfileContainer) player).getEquipmentProfile().update(player);
+	}
+
+	public static CuriosIndex getCuriosIndex(Player player) {
+		return ((CuriosIndexContainer) player).getCuriosIndex().update(player);
+	}
+
 	private static double getDamagePerDistanceToSpawn(ServerPlayer player) {
-		double damagePerDistance = player.getAttributeValue(PSTAttributes.DAMAGE_PER_DISTANCE_TO_SPAWN.get()) - 1;
+		double damagePerDistance = getAttributeValue(player, PSTAttributes.DAMAGE_PER_DISTANCE_TO_SPAWN) - 1;
 		if (damagePerDistance == 0) return 0D;
 		BlockPos spawnPos = player.getRespawnPosition();
 		double distance = 0;
@@ -158,15 +180,15 @@ public class PlayerHelper {
 	}
 
 	public static float getGemPower(Player player, ItemStack itemStack) {
-		float power = (float) player.getAttributeValue(PSTAttributes.GEM_POWER.get()) - 1;
+		float power = (float) getAttributeValue(player, PSTAttributes.GEM_POWER) - 1;
 		if (ItemHelper.isArmor(itemStack) || ItemHelper.isShield(itemStack)) {
-			power += player.getAttributeValue(PSTAttributes.GEM_POWER_IN_ARMOR.get()) - 1;
+			power += getAttributeValue(player, PSTAttributes.GEM_POWER_IN_ARMOR) - 1;
 		}
 		if (ItemHelper.isWeapon(itemStack)) {
-			power += player.getAttributeValue(PSTAttributes.GEM_POWER_IN_WEAPON.get()) - 1;
+			power += getAttributeValue(player, PSTAttributes.GEM_POWER_IN_WEAPON) - 1;
 		}
 		if (ItemHelper.isJewelry(itemStack)) {
-			power += player.getAttributeValue(PSTAttributes.GEM_POWER_IN_JEWELRY.get()) - 1;
+			power += getAttributeValue(player, PSTAttributes.GEM_POWER_IN_JEWELRY) - 1;
 		}
 		return power;
 	}